@@ -0,0 +1,81 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+    private static final int POSITIONS = 256;
+
+    @Param({ "3x3x3", "15x15x5" })
+    public String size;
+
+    private Evaluator evaluator;
+    private BitBoard[] boards;
+    private int index;
+
+    @Setup
+    public void setup() {
+        final String[] values = size.split("x");
+        final int width = Integer.parseInt(values[0]);
+        final int height = Integer.parseInt(values[1]);
+        final int k = Integer.parseInt(values[2]);
+        final var random = new SplittableRandom(1);
+
+        evaluator = new Evaluator(width, height, k);
+        boards = new BitBoard[POSITIONS];
+
+        for (int i = 0; i < POSITIONS; ++i) {
+            final var board = new BitBoard(width, height, k);
+            final int stones = random.nextInt(board.cells() * 2 / 3);
+
+            while (board.moveCount() < stones) {
+                if (board.play(random.nextInt(board.cells())) && board.result() != BitBoard.NONE)
+                    board.undo();
+            }
+
+            boards[i] = board;
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        final BitBoard board = boards[index++ & (POSITIONS - 1)];
+
+        return evaluator.evaluate(board, board.currentPlayer());
+    }
+}
@@ -0,0 +1,82 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.base.freetype;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FontBenchmark {
+    private static final String SHORT_TEXT = "Vez do Jogador 1";
+    private static final String LONG_TEXT = "Desenvolvido por Fábio Pichler. Jogo da velha em Java com LWJGL, "
+            + "OpenGL e FreeType. Clique em um quadrado para jogar e tente alinhar três símbolos "
+            + "na horizontal, na vertical ou na diagonal antes do seu adversário.";
+
+    private Font font;
+
+    @Setup
+    public void setup() {
+        final Map<Character, FontChar> characters = new HashMap<>();
+        int x = 0;
+
+        for (char charCode = 32; charCode < 256; ++charCode) {
+            final int width = charCode == Font.SPACE_CHAR ? 0 : 6 + charCode % 5;
+
+            characters.put(charCode, new FontChar(charCode, x, 0, width, 14, 1, 12, width + 2,
+                    new FontChar.Metrics(width + 2)));
+
+            x += width;
+        }
+
+        characters.put(Font.UNKNOWN_CHAR, new FontChar(Font.UNKNOWN_CHAR, x, 0, 8, 14, 1, 12, 10,
+                new FontChar.Metrics(10)));
+
+        font = new Font(null, "Synthetic", FontType.Normal, 16, 18, 14, characters);
+    }
+
+    @Benchmark
+    public DrawableText shortText() {
+        return font.createDrawableText(SHORT_TEXT, 0, TextAlign.Left);
+    }
+
+    @Benchmark
+    public DrawableText longText() {
+        return font.createDrawableText(LONG_TEXT, 0, TextAlign.Left);
+    }
+
+    @Benchmark
+    public DrawableText longTextWrapped() {
+        return font.createDrawableText(LONG_TEXT, 240, TextAlign.Center);
+    }
+}
@@ -0,0 +1,110 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import net.fabiopichler.tictactoejava.base.Color;
+
+import org.lwjgl.BufferUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorBenchmark {
+    private final Color color = new Color(255, 255, 255);
+    private final FloatBuffer vertices = BufferUtils.createFloatBuffer(4 * SpriteBatch.FLOATS_PER_VERTEX);
+    private final FloatBuffer colors = BufferUtils.createFloatBuffer(4 * 4);
+    private float shade;
+
+    @Benchmark
+    public FloatBuffer putQuad() {
+        vertices.clear();
+        SpriteBatch.putQuad(vertices, 10, 20, 98, 98, 0.0, 0.0f, 0.0f, 1.0f, 1.0f, color);
+
+        return vertices;
+    }
+
+    @Benchmark
+    public FloatBuffer putRotatedQuad() {
+        shade = (shade + 1.f) % 360.f;
+        vertices.clear();
+        SpriteBatch.putQuad(vertices, 10, 20, 98, 98, shade, 0.0f, 0.0f, 1.0f, 1.0f, color);
+
+        return vertices;
+    }
+
+    @Benchmark
+    public FloatBuffer putColors() {
+        return SpriteBatch.putColors(colors, color);
+    }
+
+    @Benchmark
+    public Color solid() {
+        shade = (shade + 1.f) % 256.f;
+
+        return color.solid(shade, 90, 230);
+    }
+
+    @Benchmark
+    public Color verticalGradient() {
+        shade = (shade + 1.f) % 256.f;
+
+        return color.top(shade, 90, 230).bottom(230, shade, 90, 0.5f);
+    }
+
+    @Benchmark
+    public Color horizontalGradient() {
+        shade = (shade + 1.f) % 256.f;
+
+        return color.left(shade, 90, 230).right(230, shade, 90).alpha(0.8f);
+    }
+
+    @Benchmark
+    public Color cornerGradient() {
+        shade = (shade + 1.f) % 256.f;
+
+        return color.topLeft(shade, 0, 0)
+                .topRight(0, shade, 0)
+                .bottomLeft(0, 0, shade)
+                .bottomRight(shade, shade, 0, 0.5f);
+    }
+
+    @Benchmark
+    public FloatBuffer gradientToBuffer() {
+        shade = (shade + 1.f) % 256.f;
+        color.top(shade, 90, 230).bottom(230, shade, 90);
+        vertices.clear();
+        SpriteBatch.putQuad(vertices, 10, 20, 98, 98, 0.0, 0.0f, 0.0f, 1.0f, 1.0f, color);
+
+        return vertices;
+    }
+}
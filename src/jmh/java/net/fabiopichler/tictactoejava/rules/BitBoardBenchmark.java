@@ -0,0 +1,106 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.rules;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitBoardBenchmark {
+    private static final int POSITIONS = 1024;
+
+    @Param({ "3x3x3", "8x8x5", "15x15x5" })
+    public String size;
+
+    private BitBoard[] boards;
+    private int[] moves;
+    private int index;
+
+    @Setup
+    public void setup() {
+        final String[] values = size.split("x");
+        final int width = Integer.parseInt(values[0]);
+        final int height = Integer.parseInt(values[1]);
+        final int k = Integer.parseInt(values[2]);
+        final var random = new SplittableRandom(1);
+
+        boards = new BitBoard[POSITIONS];
+        moves = new int[POSITIONS];
+
+        for (int i = 0; i < POSITIONS; ++i) {
+            final var board = new BitBoard(width, height, k);
+            final int stones = random.nextInt(board.cells() * 2 / 3);
+
+            while (board.moveCount() < stones) {
+                final int cell = random.nextInt(board.cells());
+
+                if (board.play(cell) && board.result() != BitBoard.NONE)
+                    board.undo();
+            }
+
+            int move;
+
+            do {
+                move = random.nextInt(board.cells());
+            } while (!board.isEmpty(move));
+
+            boards[i] = board;
+            moves[i] = move;
+        }
+    }
+
+    @Benchmark
+    public int playAndUndo() {
+        final int i = index++ & (POSITIONS - 1);
+        final BitBoard board = boards[i];
+
+        board.play(moves[i]);
+        final int result = board.result();
+        board.undo();
+
+        return result;
+    }
+
+    @Benchmark
+    public boolean isWinningMove() {
+        final int i = index++ & (POSITIONS - 1);
+        final BitBoard board = boards[i];
+
+        return board.isWinningMove(moves[i], board.currentPlayer());
+    }
+
+    @Benchmark
+    public long canonicalHash() {
+        return boards[index++ & (POSITIONS - 1)].canonicalHash();
+    }
+}
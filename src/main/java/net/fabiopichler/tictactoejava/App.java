@@ -28,8 +28,10 @@ import net.fabiopichler.tictactoejava.base.Graphics;
 import net.fabiopichler.tictactoejava.base.SceneManager;
 import net.fabiopichler.tictactoejava.base.Window;
 
+import net.fabiopichler.tictactoejava.base.drawables.FontSize;
 import net.fabiopichler.tictactoejava.base.freetype.FontManager;
 import net.fabiopichler.tictactoejava.base.freetype.FontType;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
 import net.fabiopichler.tictactoejava.scene_game.SceneGame;
 import org.lwjgl.*;
 import org.lwjgl.glfw.*;
@@ -37,6 +39,8 @@ import org.lwjgl.glfw.*;
 import static org.lwjgl.glfw.GLFW.*;
 
 public class App {
+    private static final String BOARD_PROPERTY = "tictactoe.board";
+
     private final Window window;
     private final Graphics graphics;
     private final SceneManager sceneManager;
@@ -65,19 +69,32 @@ public class App {
         if (!glfwInit())
             throw new IllegalStateException("Unable to initialize GLFW");
 
-        FontManager.init();
-        FontManager fontManager = FontManager.instance();
-        fontManager.setCharCodeList("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz1234567890ÁÂÃÉÊÍÓÔÕÚÇáâãéêíóôõúç,.;[]{}()<>-+=\\|/'\"!@#$%&*?©");
-        fontManager.addFont("Noto Sans", FontType.Normal, "/fonts/NotoSans-Regular.ttf", 0);
-        fontManager.addFont("Noto Sans", FontType.Bold, "/fonts/NotoSans-Bold.ttf", 0);
+        initFonts();
 
         window = new Window(640, 480, "Tic Tac Toe (Java)");
         window.setWindowIcon(getClass().getResource("scene_game/board/player_1.png"));
 
         graphics = new Graphics(window);
+        FontManager.instance().prewarm(Runtime.getRuntime().availableProcessors(), FontSize.values());
+
+        final BoardSize board = BoardSize.parse(System.getProperty(BOARD_PROPERTY, BoardSize.CLASSIC.toString()));
 
         sceneManager = new SceneManager(window, graphics);
-        sceneManager.goTo(new SceneGame());
+        sceneManager.goTo(new SceneGame(board.columns, board.rows, board.k));
+    }
+
+    public static void initFonts() {
+        FontManager.init();
+        FontManager fontManager = FontManager.instance();
+        fontManager.setCharCodeList("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz1234567890ÁÂÃÉÊÍÓÔÕÚÇáâãéêíóôõúç,.;[]{}()<>-+=\\|/'\"!@#$%&*?©");
+
+        if (Boolean.getBoolean("tictactoe.sdf")) {
+            fontManager.addSdfFont("Noto Sans", FontType.Normal, "/fonts/NotoSans-Regular.ttf");
+            fontManager.addSdfFont("Noto Sans", FontType.Bold, "/fonts/NotoSans-Bold.ttf");
+        } else {
+            fontManager.addFont("Noto Sans", FontType.Normal, "/fonts/NotoSans-Regular.ttf", 0);
+            fontManager.addFont("Noto Sans", FontType.Bold, "/fonts/NotoSans-Bold.ttf", 0);
+        }
     }
 
     public void release() {
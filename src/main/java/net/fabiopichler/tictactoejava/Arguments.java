@@ -0,0 +1,138 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava;
+
+import net.fabiopichler.tictactoejava.ai.Strategies;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+class Arguments {
+    private final String usage;
+    private final Map<String, String> values = new HashMap<>();
+
+    Arguments(final String[] args, final String usage, final String... options) {
+        this.usage = usage;
+
+        final Set<String> known = Set.of(options);
+
+        for (int i = 0; i < args.length; ++i) {
+            if (args[i].equals("--help") || args[i].equals("-h")) {
+                printUsage(System.out);
+                System.exit(0);
+            }
+
+            if (!known.contains(args[i]))
+                fail("Unknown option: " + args[i]);
+
+            if (i + 1 == args.length)
+                fail("Missing value for " + args[i]);
+
+            values.put(args[i], args[++i]);
+        }
+    }
+
+    String get(final String option, final String defaultValue) {
+        return values.getOrDefault(option, defaultValue);
+    }
+
+    int getInt(final String option, final int defaultValue, final int min, final int max) {
+        return (int) getLong(option, defaultValue, min, max);
+    }
+
+    long getLong(final String option, final long defaultValue) {
+        return getLong(option, defaultValue, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    long getLong(final String option, final long defaultValue, final long min, final long max) {
+        final String value = values.get(option);
+
+        if (value == null)
+            return defaultValue;
+
+        try {
+            final long number = Long.parseLong(value);
+
+            if (number < min || number > max)
+                fail("Value for " + option + " must be between " + min + " and " + max + ": " + value);
+
+            return number;
+        } catch (NumberFormatException e) {
+            fail("Invalid number for " + option + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    float getFloat(final String option, final float defaultValue) {
+        final String value = values.get(option);
+
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            fail("Invalid number for " + option + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    String getStrategy(final String option, final String defaultValue) {
+        final String value = get(option, defaultValue);
+
+        if (!Strategies.NAMES.contains(value))
+            fail("Unknown strategy for " + option + ": " + value);
+
+        return value;
+    }
+
+    BoardSize getBoard(final String option, final BoardSize defaultValue) {
+        final String value = values.get(option);
+
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return BoardSize.parse(value);
+        } catch (IllegalArgumentException e) {
+            fail(e.getMessage());
+            return defaultValue;
+        }
+    }
+
+    void fail(final String message) {
+        System.err.println(message);
+        printUsage(System.err);
+        System.exit(1);
+    }
+
+    private void printUsage(final PrintStream out) {
+        out.println(usage);
+    }
+}
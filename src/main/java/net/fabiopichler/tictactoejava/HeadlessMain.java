@@ -0,0 +1,80 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava;
+
+import net.fabiopichler.tictactoejava.ai.Strategies;
+import net.fabiopichler.tictactoejava.records.GameRecordWriter;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+import net.fabiopichler.tictactoejava.simulation.SimulationResult;
+import net.fabiopichler.tictactoejava.simulation.Simulator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class HeadlessMain {
+    public static void main(String[] args) throws IOException {
+        final var arguments = new Arguments(args,
+                "Usage: HeadlessMain [--player1 name] [--player2 name] [--board WxHxK]"
+                        + " [--games n] [--threads n] [--seed n] [--record file]\n"
+                        + "Strategies: " + Strategies.NAMES,
+                "--player1", "--player2", "--board", "--games", "--threads", "--seed", "--record");
+
+        final String player1 = arguments.getStrategy("--player1", "random");
+        final String player2 = arguments.getStrategy("--player2", "random");
+        final BoardSize board = arguments.getBoard("--board", BoardSize.CLASSIC);
+        final long games = arguments.getLong("--games", 1_000_000, 0, Long.MAX_VALUE);
+        final int threads = arguments.getInt("--threads", Runtime.getRuntime().availableProcessors(), 1, 1024);
+        final long seed = arguments.getLong("--seed", 1);
+        final String record = arguments.get("--record", null);
+
+        final var simulator = new Simulator(board.columns, board.rows, board.k);
+        final GameRecordWriter recordWriter = record != null ? new GameRecordWriter(Path.of(record)) : null;
+        final SimulationResult result;
+
+        try {
+            simulator.setRecordWriter(recordWriter);
+            result = simulator.run(
+                    seedValue -> Strategies.create(player1, seedValue),
+                    seedValue -> Strategies.create(player2, seedValue),
+                    games, threads, seed);
+        } finally {
+            if (recordWriter != null)
+                recordWriter.close();
+        }
+
+        final double total = Math.max(1, result.games());
+
+        System.out.printf("Board: %s, %s vs %s, %d threads%n", board, player1, player2, threads);
+        System.out.printf("Games: %d in %.3f s (%.0f games/s)%n",
+                result.games(), result.elapsedNanos() / 1e9, result.gamesPerSecond());
+        System.out.printf("Player 1 wins: %.2f%%, Player 2 wins: %.2f%%, Ties: %.2f%%, Average moves: %.2f%n",
+                100.0 * result.player1Wins() / total, 100.0 * result.player2Wins() / total,
+                100.0 * result.ties() / total, result.moves() / total);
+
+        if (recordWriter != null)
+            System.out.printf("Records: %d in %s%n", recordWriter.count(), record);
+    }
+}
@@ -0,0 +1,143 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava;
+
+import net.fabiopichler.tictactoejava.ai.IStrategy;
+import net.fabiopichler.tictactoejava.ai.Strategies;
+import net.fabiopichler.tictactoejava.base.freetype.FontManager;
+import net.fabiopichler.tictactoejava.base.software_renderer.SoftwareRenderer;
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+import net.fabiopichler.tictactoejava.scene_game.BoardSnapshot;
+import net.fabiopichler.tictactoejava.simulation.Simulator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class SnapshotMain {
+    private static final int LOGICAL_WIDTH = 640;
+    private static final int LOGICAL_HEIGHT = 480;
+
+    public static void main(String[] args) throws IOException {
+        final var arguments = new Arguments(args,
+                "Usage: SnapshotMain [--player1 name] [--player2 name] [--board WxHxK]"
+                        + " [--games n] [--threads n] [--seed n] [--out dir] [--scale f]"
+                        + " [--compression 0-9]\n"
+                        + "Strategies: " + Strategies.NAMES,
+                "--player1", "--player2", "--board", "--games", "--threads", "--seed", "--out", "--scale",
+                "--compression");
+
+        final String player1 = arguments.getStrategy("--player1", "random");
+        final String player2 = arguments.getStrategy("--player2", "random");
+        final BoardSize board = arguments.getBoard("--board", BoardSize.CLASSIC);
+        final long games = arguments.getLong("--games", 1_000, 0, Long.MAX_VALUE);
+        final int threads = arguments.getInt("--threads", Runtime.getRuntime().availableProcessors(), 1, 1024);
+        final long seed = arguments.getLong("--seed", 1);
+        final String out = arguments.get("--out", "build/snapshots");
+        final float scale = arguments.getFloat("--scale", 1.0f);
+        final int compression = arguments.getInt("--compression", 1, 0, 9);
+
+        if (!(scale > 0.0f && scale <= 16.0f))
+            arguments.fail("Value for --scale must be between 0 and 16: " + scale);
+
+        final int width = Math.max(1, Math.round(LOGICAL_WIDTH * scale));
+        final int height = Math.max(1, Math.round(LOGICAL_HEIGHT * scale));
+        final Path outDir = Files.createDirectories(Path.of(out));
+
+        App.initFonts();
+        SoftwareRenderer.initFontTextures();
+        SoftwareRenderer.setPngCompressionLevel(compression);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<Long>> futures = new ArrayList<>();
+        final long start = System.nanoTime();
+        long written = 0;
+
+        try {
+            for (int thread = 0; thread < threads; ++thread) {
+                final long first = games / threads * thread + Math.min(thread, games % threads);
+                final long count = games / threads + (thread < games % threads ? 1 : 0);
+                final IStrategy strategy1 = Strategies.create(player1, seed + 0x9e3779b97f4a7c15L * (thread + 1));
+                final IStrategy strategy2 = Strategies.create(player2, ~(seed + 0x9e3779b97f4a7c15L * (thread + 1)));
+
+                futures.add(executor.submit(() -> render(board, width, height,
+                        strategy1, strategy2, outDir, first, count)));
+            }
+
+            for (final Future<Long> future : futures)
+                written += future.get();
+
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+            SoftwareRenderer.releaseFontTextures();
+            FontManager.close();
+        }
+
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Board: %s, %s vs %s, %dx%d, %d threads%n", board, player1, player2, width, height, threads);
+        System.out.printf("Snapshots: %d in %.3f s (%.0f snapshots/s) in %s%n",
+                written, seconds, written / seconds, outDir);
+    }
+
+    private static long render(final BoardSize board, final int width, final int height,
+                               final IStrategy player1, final IStrategy player2, final Path outDir,
+                               final long first, final long count) {
+        final var renderer = new SoftwareRenderer(width, height);
+        renderer.setLogicalSize(LOGICAL_WIDTH, LOGICAL_HEIGHT);
+
+        final var snapshot = new BoardSnapshot(renderer, LOGICAL_WIDTH, LOGICAL_HEIGHT,
+                board.columns, board.rows, board.k);
+        final var position = new BitBoard(board.columns, board.rows, board.k);
+        long written = 0;
+
+        try {
+            for (long index = first; index < first + count; ++index) {
+                position.reset();
+                Simulator.playGame(position, player1, player2);
+                snapshot.render(position);
+
+                final String fileName = outDir.resolve(String.format("snapshot_%06d.png", index)).toString();
+
+                if (renderer.writePng(fileName))
+                    ++written;
+                else
+                    System.err.println("Could not write snapshot: " + fileName);
+            }
+        } finally {
+            snapshot.release();
+            renderer.release();
+        }
+
+        return written;
+    }
+}
@@ -0,0 +1,98 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava;
+
+import net.fabiopichler.tictactoejava.ai.Strategies;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+import net.fabiopichler.tictactoejava.simulation.Tournament;
+import net.fabiopichler.tictactoejava.simulation.TournamentResult;
+
+import java.util.List;
+
+public class TournamentMain {
+    public static void main(String[] args) {
+        final var arguments = new Arguments(args,
+                "Usage: TournamentMain [--players a,b,...] [--board WxHxK]"
+                        + " [--games n per pairing] [--threads n] [--seed n]\n"
+                        + "Strategies: " + Strategies.NAMES,
+                "--players", "--board", "--games", "--threads", "--seed");
+
+        final String players = arguments.get("--players", "random,heuristic,easy,medium,hard,perfect");
+        final BoardSize board = arguments.getBoard("--board", BoardSize.CLASSIC);
+        final long games = arguments.getLong("--games", 100_000, 0, Long.MAX_VALUE);
+        final int threads = arguments.getInt("--threads", Runtime.getRuntime().availableProcessors(), 1, 1024);
+        final long seed = arguments.getLong("--seed", 1);
+
+        final var tournament = new Tournament(board.columns, board.rows, board.k);
+        final List<String> names = List.of(players.split(","));
+
+        for (final String name : names) {
+            if (!Strategies.NAMES.contains(name))
+                arguments.fail("Unknown strategy in --players: " + name);
+
+            tournament.addPlayer(name, seedValue -> Strategies.create(name, seedValue));
+        }
+
+        final TournamentResult result = tournament.run(games, threads, seed);
+        final double[] ratings = result.ratings();
+
+        System.out.printf("Board: %s, %d players, %d games per pairing, %d threads%n",
+                board, names.size(), games, threads);
+        System.out.printf("Games: %d in %.3f s (%.0f games/s)%n",
+                result.games(), result.elapsedNanos() / 1e9, result.gamesPerSecond());
+        System.out.println();
+        System.out.printf("%-10s %8s %8s %8s %8s %12s%n", "Player", "Elo", "Win", "Draw", "Loss", "Games");
+
+        for (int i = 0; i < names.size(); ++i) {
+            final double total = Math.max(1, result.games(i));
+
+            System.out.printf("%-10s %8.1f %7.2f%% %7.2f%% %7.2f%% %12d%n", names.get(i), ratings[i],
+                    100.0 * result.wins(i) / total, 100.0 * result.draws(i) / total,
+                    100.0 * result.losses(i) / total, result.games(i));
+        }
+
+        System.out.println();
+        System.out.printf("%-10s", "Score");
+
+        for (final String name : names)
+            System.out.printf(" %10s", name);
+
+        System.out.println();
+
+        for (int i = 0; i < names.size(); ++i) {
+            System.out.printf("%-10s", names.get(i));
+
+            for (int j = 0; j < names.size(); ++j) {
+                if (i == j)
+                    System.out.printf(" %10s", "-");
+                else
+                    System.out.printf(" %9.2f%%", 100.0 * result.score(i, j) / Math.max(1, result.games(i, j)));
+            }
+
+            System.out.println();
+        }
+    }
+}
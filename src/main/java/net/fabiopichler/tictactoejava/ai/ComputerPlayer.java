@@ -0,0 +1,114 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.concurrent.*;
+
+public class ComputerPlayer {
+    private final ExecutorService executor;
+    private IStrategy strategy;
+    private Future<Integer> pending;
+    private BitBoard pendingBoard;
+
+    public ComputerPlayer(final IStrategy strategy) {
+        this.strategy = strategy;
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ComputerPlayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void release() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    public void setStrategy(final IStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public IStrategy strategy() {
+        return strategy;
+    }
+
+    public void think(final BitBoard board) {
+        cancel();
+
+        final BitBoard snapshot = new BitBoard(board);
+        final IStrategy strategy = this.strategy;
+
+        pendingBoard = new BitBoard(board);
+        pending = executor.submit(() -> strategy.chooseMove(snapshot));
+    }
+
+    public boolean isThinking() {
+        return pending != null;
+    }
+
+    public int poll() {
+        if (pending == null || !pending.isDone())
+            return -1;
+
+        final Future<Integer> future = pending;
+        final BitBoard board = pendingBoard;
+        pending = null;
+        pendingBoard = null;
+
+        try {
+            final int cell = future.get();
+
+            if (cell >= 0 && cell < board.cells() && board.isEmpty(cell))
+                return cell;
+
+            System.err.println("Computer player chose an illegal move: " + cell);
+        } catch (InterruptedException | ExecutionException | CancellationException e) {
+            System.err.println("Computer player failed: " + (e.getCause() != null ? e.getCause() : e));
+        }
+
+        return firstEmptyCell(board);
+    }
+
+    private static int firstEmptyCell(final BitBoard board) {
+        for (int cell = 0; cell < board.cells(); ++cell) {
+            if (board.isEmpty(cell))
+                return cell;
+        }
+
+        return -1;
+    }
+
+    public void cancel() {
+        if (pending != null)
+            pending.cancel(true);
+
+        pending = null;
+        pendingBoard = null;
+    }
+}
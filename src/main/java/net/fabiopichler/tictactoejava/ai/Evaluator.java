@@ -0,0 +1,103 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.Arrays;
+
+public class Evaluator {
+    private static final int[] DIRECTION_X = { 1, 0, 1, 1 };
+    private static final int[] DIRECTION_Y = { 0, 1, 1, -1 };
+
+    private final int width;
+    private final int height;
+    private final int k;
+    private final int[] windows;
+    private final int[] weights;
+
+    public Evaluator(final int width, final int height, final int k) {
+        this.width = width;
+        this.height = height;
+        this.k = k;
+        this.windows = createWindows();
+        this.weights = new int[k + 1];
+
+        for (int count = 1; count <= k; ++count)
+            weights[count] = 1 << Math.min(24, 3 * (count - 1));
+    }
+
+    public boolean matches(final BitBoard board) {
+        return board.width() == width && board.height() == height && board.k() == k;
+    }
+
+    public int evaluate(final BitBoard board, final int player) {
+        int score = 0;
+
+        for (int start = 0; start < windows.length; start += k) {
+            int own = 0;
+            int other = 0;
+
+            for (int i = start; i < start + k; ++i) {
+                final int owner = board.owner(windows[i]);
+
+                if (owner == player)
+                    ++own;
+                else if (owner != BitBoard.NONE)
+                    ++other;
+            }
+
+            if (other == 0)
+                score += weights[own];
+            else if (own == 0)
+                score -= weights[other];
+        }
+
+        return score;
+    }
+
+    private int[] createWindows() {
+        final int[] cells = new int[width * height * DIRECTION_X.length * k];
+        int index = 0;
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                for (int dir = 0; dir < DIRECTION_X.length; ++dir) {
+                    final int endX = x + DIRECTION_X[dir] * (k - 1);
+                    final int endY = y + DIRECTION_Y[dir] * (k - 1);
+
+                    if (endX < 0 || endX >= width || endY < 0 || endY >= height)
+                        continue;
+
+                    for (int i = 0; i < k; ++i)
+                        cells[index++] = (y + DIRECTION_Y[dir] * i) * width + (x + DIRECTION_X[dir] * i);
+                }
+            }
+        }
+
+        return Arrays.copyOf(cells, index);
+    }
+}
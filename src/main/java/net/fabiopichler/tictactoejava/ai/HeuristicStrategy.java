@@ -0,0 +1,90 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.SplittableRandom;
+
+public class HeuristicStrategy implements IStrategy {
+    private final SplittableRandom random;
+    private Evaluator evaluator;
+
+    public HeuristicStrategy(final long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public String name() {
+        return "Heuristic";
+    }
+
+    @Override
+    public int chooseMove(final BitBoard board) {
+        if (evaluator == null || !evaluator.matches(board))
+            evaluator = new Evaluator(board.width(), board.height(), board.k());
+
+        final int player = board.currentPlayer();
+        final int opponent = player == BitBoard.PLAYER_1 ? BitBoard.PLAYER_2 : BitBoard.PLAYER_1;
+        int block = -1;
+
+        for (int cell = 0; cell < board.cells(); ++cell) {
+            if (!board.isEmpty(cell))
+                continue;
+
+            if (board.isWinningMove(cell, player))
+                return cell;
+
+            if (block == -1 && board.isWinningMove(cell, opponent))
+                block = cell;
+        }
+
+        if (block != -1)
+            return block;
+
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE;
+        int ties = 0;
+
+        for (int cell = 0; cell < board.cells(); ++cell) {
+            if (!board.play(cell))
+                continue;
+
+            final int score = evaluator.evaluate(board, player);
+            board.undo();
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = cell;
+                ties = 1;
+            } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                bestMove = cell;
+            }
+        }
+
+        return bestMove;
+    }
+}
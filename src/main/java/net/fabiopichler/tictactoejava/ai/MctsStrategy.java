@@ -0,0 +1,287 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class MctsStrategy implements IStrategy {
+    private static final double EXPLORATION = 1.41;
+    private static final int TREE_CAPACITY = 1 << 18;
+
+    private final long budgetNanos;
+    private final int iterations;
+    private final long seed;
+    private final SearchTree[] trees;
+    private long searches;
+
+    public MctsStrategy(final long budgetNanos) {
+        this(budgetNanos, 0, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    public MctsStrategy(final long budgetNanos, final int iterations, final int workers, final long seed) {
+        if (budgetNanos <= 0 && iterations <= 0)
+            throw new IllegalArgumentException("MCTS needs a time budget or an iteration limit");
+
+        this.budgetNanos = budgetNanos;
+        this.iterations = iterations;
+        this.seed = seed;
+        this.trees = new SearchTree[Math.max(1, workers)];
+
+        for (int i = 0; i < trees.length; ++i)
+            trees[i] = new SearchTree();
+    }
+
+    @Override
+    public String name() {
+        return "MCTS";
+    }
+
+    @Override
+    public int chooseMove(final BitBoard board) {
+        final int player = board.currentPlayer();
+        final int opponent = player == BitBoard.PLAYER_1 ? BitBoard.PLAYER_2 : BitBoard.PLAYER_1;
+        int block = -1;
+
+        for (int cell = 0; cell < board.cells(); ++cell) {
+            if (board.isWinningMove(cell, player))
+                return cell;
+
+            if (block == -1 && board.isWinningMove(cell, opponent))
+                block = cell;
+        }
+
+        if (block != -1)
+            return block;
+
+        final long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        final long searchSeed = seed + 0x9e3779b97f4a7c15L * ++searches;
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[trees.length];
+
+        for (int i = 1; i < trees.length; ++i) {
+            final SearchTree tree = trees[i];
+            final long treeSeed = searchSeed + i;
+
+            tasks[i] = ForkJoinPool.commonPool().submit(() -> tree.search(board, deadline, iterations, treeSeed));
+        }
+
+        trees[0].search(board, deadline, iterations, searchSeed);
+
+        for (int i = 1; i < tasks.length; ++i)
+            tasks[i].join();
+
+        final int[] visits = new int[board.cells()];
+
+        for (final SearchTree tree : trees)
+            tree.addRootVisits(visits);
+
+        int bestMove = -1;
+
+        for (int cell = 0; cell < visits.length; ++cell)
+            if (board.isEmpty(cell) && (bestMove == -1 || visits[cell] > visits[bestMove]))
+                bestMove = cell;
+
+        return bestMove;
+    }
+
+    private static class SearchTree {
+        private int[] move;
+        private int[] parent;
+        private int[] firstChild;
+        private int[] childCount;
+        private int[] visits;
+        private float[] score;
+        private byte[] mover;
+        private int[] candidates;
+        private int[] empties;
+        private int size;
+        private BitBoard board;
+        private SplittableRandom random;
+
+        private void search(final BitBoard root, final long deadline, final int iterations, final long seed) {
+            if (move == null) {
+                move = new int[TREE_CAPACITY];
+                parent = new int[TREE_CAPACITY];
+                firstChild = new int[TREE_CAPACITY];
+                childCount = new int[TREE_CAPACITY];
+                visits = new int[TREE_CAPACITY];
+                score = new float[TREE_CAPACITY];
+                mover = new byte[TREE_CAPACITY];
+            }
+
+            if (candidates == null || candidates.length < root.cells()) {
+                candidates = new int[root.cells()];
+                empties = new int[root.cells()];
+            }
+
+            board = new BitBoard(root);
+            random = new SplittableRandom(seed);
+            size = 0;
+            newNode(-1, -1, 0);
+
+            final int rootMoves = board.moveCount();
+
+            for (int i = 0; iterations <= 0 || i < iterations; ++i) {
+                if (i > 0 && System.nanoTime() > deadline)
+                    break;
+
+                int node = 0;
+
+                while (childCount[node] > 0) {
+                    node = select(node);
+                    board.play(move[node]);
+                }
+
+                if (board.result() == BitBoard.NONE && (node == 0 || visits[node] > 0) && expand(node)) {
+                    node = firstChild[node] + random.nextInt(childCount[node]);
+                    board.play(move[node]);
+                }
+
+                final int winner = board.result() != BitBoard.NONE ? board.result() : rollout();
+
+                for (; node != -1; node = parent[node]) {
+                    ++visits[node];
+
+                    if (winner == mover[node])
+                        score[node] += 1.0f;
+                    else if (winner == BitBoard.TIED)
+                        score[node] += 0.5f;
+                }
+
+                while (board.moveCount() > rootMoves)
+                    board.undo();
+            }
+        }
+
+        private void addRootVisits(final int[] total) {
+            for (int i = 0; i < childCount[0]; ++i) {
+                final int child = firstChild[0] + i;
+                total[move[child]] += visits[child];
+            }
+        }
+
+        private int newNode(final int cell, final int parentNode, final int player) {
+            final int node = size++;
+
+            move[node] = cell;
+            parent[node] = parentNode;
+            firstChild[node] = -1;
+            childCount[node] = 0;
+            visits[node] = 0;
+            score[node] = 0.0f;
+            mover[node] = (byte) player;
+
+            return node;
+        }
+
+        private int select(final int node) {
+            final double logVisits = Math.log(visits[node]);
+            final int first = firstChild[node];
+            int best = first;
+            double bestValue = Double.NEGATIVE_INFINITY;
+
+            for (int child = first; child < first + childCount[node]; ++child) {
+                if (visits[child] == 0)
+                    return child;
+
+                final double value = score[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+
+            return best;
+        }
+
+        private boolean expand(final int node) {
+            final int count = generateMoves();
+
+            if (count == 0 || size + count > TREE_CAPACITY)
+                return false;
+
+            final int player = board.currentPlayer();
+
+            firstChild[node] = size;
+            childCount[node] = count;
+
+            for (int i = 0; i < count; ++i)
+                newNode(candidates[i], node, player);
+
+            return true;
+        }
+
+        private int generateMoves() {
+            final int cells = board.cells();
+            int count = 0;
+
+            if (cells > 16 && board.moveCount() == 0) {
+                candidates[0] = board.cell(board.width() / 2, board.height() / 2);
+                return 1;
+            }
+
+            for (int cell = 0; cell < cells; ++cell)
+                if (board.isEmpty(cell) && (cells <= 16 || hasNeighbour(cell)))
+                    candidates[count++] = cell;
+
+            return count;
+        }
+
+        private boolean hasNeighbour(final int cell) {
+            final int x = board.column(cell);
+            final int y = board.row(cell);
+
+            for (int ny = Math.max(0, y - 1); ny <= Math.min(board.height() - 1, y + 1); ++ny)
+                for (int nx = Math.max(0, x - 1); nx <= Math.min(board.width() - 1, x + 1); ++nx)
+                    if (!board.isEmpty(board.cell(nx, ny)))
+                        return true;
+
+            return false;
+        }
+
+        private int rollout() {
+            int count = 0;
+
+            for (int cell = 0; cell < board.cells(); ++cell)
+                if (board.isEmpty(cell))
+                    empties[count++] = cell;
+
+            while (board.result() == BitBoard.NONE) {
+                final int index = random.nextInt(count);
+                final int cell = empties[index];
+
+                empties[index] = empties[--count];
+                board.play(cell);
+            }
+
+            return board.result();
+        }
+    }
+}
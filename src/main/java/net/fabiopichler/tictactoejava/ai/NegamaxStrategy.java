@@ -0,0 +1,294 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class NegamaxStrategy implements IStrategy {
+    private static final int WIN_SCORE = 1_000_000_000;
+    private static final int WIN_THRESHOLD = WIN_SCORE - 10_000;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private static final int EXACT = 0;
+    private static final int LOWER_BOUND = 1;
+    private static final int UPPER_BOUND = 2;
+
+    private final Difficulty difficulty;
+    private final long budgetNanos;
+    private final long nodeLimit;
+    private final SplittableRandom random;
+    private final long[] ttKeys;
+    private final long[] ttData;
+    private final int ttMask;
+    private Evaluator evaluator;
+    private int[][] moveLists;
+    private int[] cellOrder;
+    private long deadline;
+    private long nodes;
+    private boolean aborted;
+    private int rootBestMove;
+
+    public NegamaxStrategy(final Difficulty difficulty) {
+        this(difficulty, 8_000_000L, 0, System.nanoTime(), 16);
+    }
+
+    public NegamaxStrategy(final Difficulty difficulty, final long budgetNanos, final long nodeLimit,
+                           final long seed, final int ttBits) {
+        if (budgetNanos <= 0 && nodeLimit <= 0)
+            throw new IllegalArgumentException("Negamax needs a time budget or a node limit");
+
+        this.difficulty = difficulty;
+        this.budgetNanos = budgetNanos;
+        this.nodeLimit = nodeLimit > 0 ? nodeLimit : Long.MAX_VALUE;
+        this.random = new SplittableRandom(seed);
+        this.ttKeys = new long[1 << ttBits];
+        this.ttData = new long[1 << ttBits];
+        this.ttMask = (1 << ttBits) - 1;
+    }
+
+    @Override
+    public String name() {
+        return "Negamax " + difficulty.name();
+    }
+
+    @Override
+    public int chooseMove(final BitBoard board) {
+        prepare(board);
+
+        final int[] moves = moveLists[0];
+        final int count = generateMoves(board, moves, -1);
+
+        if (count == 0)
+            return -1;
+
+        if (count == 1 || random.nextDouble() < difficulty.randomMoveRate())
+            return moves[random.nextInt(count)];
+
+        final int empty = board.cells() - board.moveCount();
+        final int maxDepth = Math.min(difficulty.depth(), empty);
+        int bestMove = moves[0];
+
+        deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        nodes = 0;
+        aborted = false;
+
+        for (int depth = 1; depth <= maxDepth; ++depth) {
+            rootBestMove = -1;
+            final int value = negamax(board, depth, -INFINITY, INFINITY, 0);
+
+            if (aborted)
+                break;
+
+            if (rootBestMove != -1)
+                bestMove = rootBestMove;
+
+            if (Math.abs(value) >= WIN_THRESHOLD)
+                break;
+        }
+
+        return bestMove;
+    }
+
+    public long nodes() {
+        return nodes;
+    }
+
+    private int negamax(final BitBoard board, final int depth, int alpha, int beta, final int ply) {
+        if (++nodes > nodeLimit || ((nodes & 63) == 0 && System.nanoTime() > deadline))
+            aborted = true;
+
+        if (aborted)
+            return 0;
+
+        final int alphaOrig = alpha;
+        final long key = board.canonicalHash();
+        final int symmetry = board.canonicalSymmetry();
+        final int slot = (int) key & ttMask;
+        int ttMove = -1;
+
+        if (ttKeys[slot] == key && ttData[slot] != 0) {
+            final long data = ttData[slot];
+            final int storedMove = (int) (data & 0xffff) - 1;
+
+            if (storedMove != -1)
+                ttMove = board.zobrist().unmap(storedMove, symmetry);
+
+            if (ply > 0 && (int) ((data >>> 16) & 0xff) >= depth) {
+                final int value = fromTable((int) (data >> 32), ply);
+                final int flag = (int) ((data >>> 24) & 0x3);
+
+                if (flag == EXACT)
+                    return value;
+                else if (flag == LOWER_BOUND)
+                    alpha = Math.max(alpha, value);
+                else
+                    beta = Math.min(beta, value);
+
+                if (alpha >= beta)
+                    return value;
+            }
+        }
+
+        if (depth == 0)
+            return evaluator.evaluate(board, board.currentPlayer());
+
+        final int[] moves = moveLists[ply];
+        final int count = generateMoves(board, moves, ttMove);
+        int best = -INFINITY;
+        int bestMove = -1;
+
+        for (int i = 0; i < count; ++i) {
+            final int cell = moves[i];
+            final int value;
+
+            board.play(cell);
+
+            if (board.result() == BitBoard.TIED)
+                value = 0;
+            else if (board.result() != BitBoard.NONE)
+                value = WIN_SCORE - (ply + 1);
+            else
+                value = -negamax(board, depth - 1, -beta, -alpha, ply + 1);
+
+            board.undo();
+
+            if (aborted)
+                return 0;
+
+            if (value > best) {
+                best = value;
+                bestMove = cell;
+            }
+
+            if (best > alpha)
+                alpha = best;
+
+            if (alpha >= beta)
+                break;
+        }
+
+        if (ply == 0)
+            rootBestMove = bestMove;
+
+        final int flag = best <= alphaOrig ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+
+        ttKeys[slot] = key;
+        ttData[slot] = ((long) toTable(best, ply) << 32)
+                | ((long) flag << 24)
+                | ((long) Math.min(depth, 0xff) << 16)
+                | (bestMove == -1 ? 0 : board.zobrist().map(bestMove, symmetry) + 1);
+
+        return best;
+    }
+
+    private int generateMoves(final BitBoard board, final int[] moves, final int firstMove) {
+        int count = 0;
+
+        if (firstMove != -1)
+            moves[count++] = firstMove;
+
+        final boolean nearStonesOnly = board.cells() > 16 && board.moveCount() > 0;
+
+        for (final int cell : cellOrder) {
+            if (cell == firstMove || !board.isEmpty(cell))
+                continue;
+
+            if (nearStonesOnly && !hasNeighbour(board, cell))
+                continue;
+
+            moves[count++] = cell;
+
+            if (board.moveCount() == 0 && board.cells() > 16)
+                break;
+        }
+
+        return count;
+    }
+
+    private static boolean hasNeighbour(final BitBoard board, final int cell) {
+        final int x = board.column(cell);
+        final int y = board.row(cell);
+
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(board.height() - 1, y + 1); ++ny)
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(board.width() - 1, x + 1); ++nx)
+                if (!board.isEmpty(board.cell(nx, ny)))
+                    return true;
+
+        return false;
+    }
+
+    private void prepare(final BitBoard board) {
+        if (evaluator != null && evaluator.matches(board))
+            return;
+
+        evaluator = new Evaluator(board.width(), board.height(), board.k());
+        moveLists = new int[board.cells() + 1][board.cells()];
+        cellOrder = centerFirstOrder(board);
+    }
+
+    static int[] centerFirstOrder(final BitBoard board) {
+        final Integer[] cells = new Integer[board.cells()];
+        final double centerX = (board.width() - 1) / 2.0;
+        final double centerY = (board.height() - 1) / 2.0;
+
+        for (int cell = 0; cell < cells.length; ++cell)
+            cells[cell] = cell;
+
+        Arrays.sort(cells, (a, b) -> Double.compare(
+                Math.max(Math.abs(board.column(a) - centerX), Math.abs(board.row(a) - centerY)),
+                Math.max(Math.abs(board.column(b) - centerX), Math.abs(board.row(b) - centerY))));
+
+        final int[] order = new int[cells.length];
+
+        for (int i = 0; i < order.length; ++i)
+            order[i] = cells[i];
+
+        return order;
+    }
+
+    private static int toTable(final int value, final int ply) {
+        if (value >= WIN_THRESHOLD)
+            return value + ply;
+
+        if (value <= -WIN_THRESHOLD)
+            return value - ply;
+
+        return value;
+    }
+
+    private static int fromTable(final int value, final int ply) {
+        if (value >= WIN_THRESHOLD)
+            return value - ply;
+
+        if (value <= -WIN_THRESHOLD)
+            return value + ply;
+
+        return value;
+    }
+}
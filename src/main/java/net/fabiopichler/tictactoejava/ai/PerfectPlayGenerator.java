@@ -0,0 +1,136 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.io.*;
+import java.util.Arrays;
+
+public class PerfectPlayGenerator {
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final int[] scores = new int[PerfectPlayTable.POSITIONS];
+    private final int[] entries = new int[PerfectPlayTable.POSITIONS];
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: PerfectPlayGenerator <output file>");
+            System.exit(1);
+        }
+
+        final var generator = new PerfectPlayGenerator();
+        generator.solve(new BitBoard());
+
+        final File file = new File(args[0]);
+        final int count = generator.write(file);
+
+        System.out.println("Perfect play table: " + count + " positions, " + file.length() + " bytes -> " + file);
+    }
+
+    public PerfectPlayGenerator() {
+        Arrays.fill(scores, UNKNOWN);
+        Arrays.fill(entries, -1);
+    }
+
+    public int write(final File file) throws IOException {
+        int count = 0;
+
+        for (final int entry : entries)
+            if (entry != -1)
+                ++count;
+
+        final File parent = file.getParentFile();
+
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs())
+            throw new IOException("Could not create " + parent);
+
+        try (final var output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(PerfectPlayTable.MAGIC);
+            output.writeInt(count);
+
+            for (int canonical = 0; canonical < entries.length; ++canonical) {
+                if (entries[canonical] != -1) {
+                    output.writeShort(canonical);
+                    output.writeByte(entries[canonical]);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private int solve(final BitBoard board) {
+        final int player1 = (int) board.word(BitBoard.PLAYER_1, 0);
+        final int player2 = (int) board.word(BitBoard.PLAYER_2, 0);
+        final int index = PerfectPlayTable.index(player1, player2);
+
+        if (scores[index] != UNKNOWN)
+            return scores[index];
+
+        int best;
+        int bestMove = PerfectPlayTable.NO_MOVE;
+
+        if (board.result() == BitBoard.TIED) {
+            best = 0;
+        } else if (board.result() != BitBoard.NONE) {
+            best = -(PerfectPlayTable.CELLS + 1 - board.moveCount());
+        } else {
+            best = Integer.MIN_VALUE;
+
+            for (int cell = 0; cell < PerfectPlayTable.CELLS; ++cell) {
+                if (!board.isEmpty(cell))
+                    continue;
+
+                board.play(cell);
+                final int score = -solve(board);
+                board.undo();
+
+                if (score > best) {
+                    best = score;
+                    bestMove = cell;
+                }
+            }
+        }
+
+        scores[index] = best;
+
+        final int symmetry = PerfectPlayTable.canonicalSymmetry(player1, player2);
+        final int[] transform = PerfectPlayTable.SYMMETRIES[symmetry];
+        final int canonical = PerfectPlayTable.index(
+                PerfectPlayTable.transform(player1, transform),
+                PerfectPlayTable.transform(player2, transform));
+
+        if (entries[canonical] == -1) {
+            final int value = best > 0 ? PerfectPlayTable.WIN : best < 0 ? PerfectPlayTable.LOSS : PerfectPlayTable.DRAW;
+            final int move = bestMove == PerfectPlayTable.NO_MOVE ? PerfectPlayTable.NO_MOVE : transform[bestMove];
+
+            entries[canonical] = (value << 4) | move;
+        }
+
+        return best;
+    }
+}
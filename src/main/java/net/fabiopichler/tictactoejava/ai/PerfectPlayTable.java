@@ -0,0 +1,210 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class PerfectPlayTable {
+    public static final String RESOURCE = "/net/fabiopichler/tictactoejava/scene_game/board/perfect_play.bin";
+    public static final int MAGIC = 0x54545431;
+
+    public static final int LOSS = 0;
+    public static final int DRAW = 1;
+    public static final int WIN = 2;
+    public static final int NO_MOVE = 0xf;
+
+    static final int SIZE = 3;
+    static final int CELLS = SIZE * SIZE;
+    static final int POSITIONS = 19683;
+    static final int[][] SYMMETRIES = createSymmetries();
+
+    private static final int[] TERNARY = createTernary();
+
+    private static class Holder {
+        private static final PerfectPlayTable INSTANCE = loadResource();
+    }
+
+    private final byte[] entries = new byte[POSITIONS];
+
+    private PerfectPlayTable() {
+        Arrays.fill(entries, (byte) -1);
+    }
+
+    public static PerfectPlayTable instance() {
+        return Holder.INSTANCE;
+    }
+
+    public static PerfectPlayTable load(final InputStream stream) throws IOException {
+        final var input = new DataInputStream(stream);
+
+        if (input.readInt() != MAGIC)
+            throw new IOException("Invalid perfect play table");
+
+        final var table = new PerfectPlayTable();
+        final int count = input.readInt();
+
+        for (int i = 0; i < count; ++i) {
+            final int canonical = input.readUnsignedShort();
+            final int entry = input.readUnsignedByte();
+
+            table.expand(canonical, entry);
+        }
+
+        return table;
+    }
+
+    public boolean supports(final BitBoard board) {
+        return board.width() == SIZE && board.height() == SIZE && board.k() == SIZE;
+    }
+
+    public int bestMove(final BitBoard board) {
+        final int entry = entries[index(board)];
+
+        if (entry == -1 || (entry & 0xf) == NO_MOVE)
+            return -1;
+
+        return entry & 0xf;
+    }
+
+    public int value(final BitBoard board) {
+        final int entry = entries[index(board)];
+
+        return entry == -1 ? -1 : (entry >>> 4) & 0x3;
+    }
+
+    static int index(final BitBoard board) {
+        return index((int) board.word(BitBoard.PLAYER_1, 0), (int) board.word(BitBoard.PLAYER_2, 0));
+    }
+
+    static int index(final int player1, final int player2) {
+        return TERNARY[player1] + 2 * TERNARY[player2];
+    }
+
+    static int transform(final int mask, final int[] symmetry) {
+        int result = 0;
+
+        for (int cell = 0; cell < CELLS; ++cell)
+            if ((mask & (1 << cell)) != 0)
+                result |= 1 << symmetry[cell];
+
+        return result;
+    }
+
+    static int canonicalSymmetry(final int player1, final int player2) {
+        int best = 0;
+        int bestIndex = Integer.MAX_VALUE;
+
+        for (int s = 0; s < SYMMETRIES.length; ++s) {
+            final int index = index(transform(player1, SYMMETRIES[s]), transform(player2, SYMMETRIES[s]));
+
+            if (index < bestIndex) {
+                bestIndex = index;
+                best = s;
+            }
+        }
+
+        return best;
+    }
+
+    private void expand(final int canonical, final int entry) {
+        int player1 = 0;
+        int player2 = 0;
+        int rest = canonical;
+
+        for (int cell = 0; cell < CELLS; ++cell, rest /= 3) {
+            if (rest % 3 == 1)
+                player1 |= 1 << cell;
+            else if (rest % 3 == 2)
+                player2 |= 1 << cell;
+        }
+
+        final int move = entry & 0xf;
+
+        for (final int[] symmetry : SYMMETRIES) {
+            final int index = index(transform(player1, symmetry), transform(player2, symmetry));
+            final int mappedMove = move == NO_MOVE ? NO_MOVE : symmetry[move];
+
+            entries[index] = (byte) ((entry & 0x30) | mappedMove);
+        }
+    }
+
+    private static PerfectPlayTable loadResource() {
+        try (final InputStream stream = PerfectPlayTable.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                System.err.println("Perfect play table not found: " + RESOURCE);
+                return null;
+            }
+
+            return load(stream);
+
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            return null;
+        }
+    }
+
+    private static int[][] createSymmetries() {
+        final int[][] symmetries = new int[8][CELLS];
+        final int last = SIZE - 1;
+
+        for (int row = 0; row < SIZE; ++row) {
+            for (int col = 0; col < SIZE; ++col) {
+                final int cell = row * SIZE + col;
+
+                symmetries[0][cell] = row * SIZE + col;
+                symmetries[1][cell] = col * SIZE + (last - row);
+                symmetries[2][cell] = (last - row) * SIZE + (last - col);
+                symmetries[3][cell] = (last - col) * SIZE + row;
+                symmetries[4][cell] = row * SIZE + (last - col);
+                symmetries[5][cell] = (last - row) * SIZE + col;
+                symmetries[6][cell] = col * SIZE + row;
+                symmetries[7][cell] = (last - col) * SIZE + (last - row);
+            }
+        }
+
+        return symmetries;
+    }
+
+    private static int[] createTernary() {
+        final int[] ternary = new int[1 << CELLS];
+
+        for (int mask = 0; mask < ternary.length; ++mask) {
+            int value = 0;
+
+            for (int cell = CELLS - 1; cell >= 0; --cell)
+                value = value * 3 + ((mask >>> cell) & 1);
+
+            ternary[mask] = value;
+        }
+
+        return ternary;
+    }
+}
@@ -0,0 +1,69 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.util.SplittableRandom;
+
+public class RandomStrategy implements IStrategy {
+    private final SplittableRandom random;
+
+    public RandomStrategy(final long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public String name() {
+        return "Random";
+    }
+
+    @Override
+    public int chooseMove(final BitBoard board) {
+        final int empty = board.cells() - board.moveCount();
+
+        if (empty <= 0)
+            return -1;
+
+        if (board.cells() <= 64) {
+            final long full = board.cells() == 64 ? -1L : (1L << board.cells()) - 1;
+            long mask = ~(board.word(BitBoard.PLAYER_1, 0) | board.word(BitBoard.PLAYER_2, 0)) & full;
+
+            for (int skip = random.nextInt(empty); skip > 0; --skip)
+                mask &= mask - 1;
+
+            return Long.numberOfTrailingZeros(mask);
+        }
+
+        int skip = random.nextInt(empty);
+
+        for (int cell = 0; cell < board.cells(); ++cell)
+            if (board.isEmpty(cell) && skip-- == 0)
+                return cell;
+
+        return -1;
+    }
+}
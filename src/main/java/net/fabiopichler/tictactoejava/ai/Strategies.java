@@ -0,0 +1,55 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.ai;
+
+import java.util.List;
+
+public class Strategies {
+    public static final List<String> NAMES = List.of("random", "heuristic", "easy", "medium", "hard", "perfect", "mcts");
+
+    private static final long NODE_LIMIT = 2_000;
+
+    public static IStrategy create(final String name, final long seed) {
+        switch (name) {
+            case "random":
+                return new RandomStrategy(seed);
+            case "heuristic":
+                return new HeuristicStrategy(seed);
+            case "easy":
+                return new NegamaxStrategy(Difficulty.Easy, 0, NODE_LIMIT, seed, 12);
+            case "medium":
+                return new NegamaxStrategy(Difficulty.Medium, 0, NODE_LIMIT, seed, 14);
+            case "hard":
+                return new NegamaxStrategy(Difficulty.Hard, 0, NODE_LIMIT, seed, 16);
+            case "perfect":
+                return new PerfectPlayStrategy(new NegamaxStrategy(Difficulty.Hard, 0, NODE_LIMIT, seed, 16));
+            case "mcts":
+                return new MctsStrategy(0, 2000, 1, seed);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name + " (available: " + NAMES + ")");
+        }
+    }
+}
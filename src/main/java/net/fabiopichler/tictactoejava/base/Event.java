@@ -31,6 +31,7 @@ public class Event {
         CursorPos,
         CursorEnter,
         MouseButton,
+        WindowRefresh,
     }
 
     public static class Key {
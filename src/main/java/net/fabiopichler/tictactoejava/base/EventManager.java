@@ -45,12 +45,17 @@ public class EventManager {
         glfwSetCursorPosCallback(nativeWindow, this::onCursorPositionCallback);
         glfwSetCursorEnterCallback(nativeWindow, this::onCursorEnterCallback);
         glfwSetMouseButtonCallback(nativeWindow, this::onMouseButtonCallback);
+        glfwSetWindowRefreshCallback(nativeWindow, this::onWindowRefreshCallback);
     }
 
     public void pollEvents() {
         glfwPollEvents();
     }
 
+    public void waitEvents(final double timeout) {
+        glfwWaitEventsTimeout(timeout);
+    }
+
     private void onKeyCallback(final long window, final int key, final int scancode, final int action, final int mods) {
         if (this.window.nativeWindow() != window)
             return;
@@ -111,6 +116,13 @@ public class EventManager {
         }
     }
 
+    private void onWindowRefreshCallback(final long window) {
+        if (this.window.nativeWindow() != window)
+            return;
+
+        callEvent(Event.Type.WindowRefresh);
+    }
+
     private void setKeyValues(final int key, final int scancode, final int action, final int mods) {
         event.key.key = key;
         event.key.scancode = scancode;
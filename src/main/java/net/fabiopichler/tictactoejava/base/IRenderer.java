@@ -0,0 +1,83 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base;
+
+import net.fabiopichler.tictactoejava.base.freetype.DrawableText;
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.ILayerTarget;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+import net.fabiopichler.tictactoejava.base.vectors.IntRect;
+import net.fabiopichler.tictactoejava.base.vectors.Rect;
+
+public interface IRenderer {
+    void release();
+
+    Texture2D createTexture(ImageData image, TextureFilter filter);
+
+    void destroyTexture(Texture2D texture);
+
+    IAtlasRegion acquireImage(String key, TextureFilter filter);
+
+    IAtlasRegion createImage(String key, ImageData image, TextureFilter filter);
+
+    void releaseImage(IAtlasRegion region);
+
+    ILayerTarget createLayerTarget(int width, int height);
+
+    void destroyLayerTarget(ILayerTarget target);
+
+    float pixelScale();
+
+    void beginLayer(ILayerTarget target, Rect rect);
+
+    void endLayer();
+
+    void drawLayer(ILayerTarget target, Rect rect);
+
+    void clear();
+
+    void draw(Texture2D texture, IntRect srcrect, Rect dstrect, double angle, Color color);
+
+    void draw(DrawableText text, float x, float y, Color color, int visibleChars);
+
+    void draw(DrawableText text, float x, float y, Color color, int visibleChars, Color outlineColor, float outlineWidth);
+
+    void releaseText(DrawableText text);
+
+    void drawRect(Rect rect, Color color);
+
+    void flush();
+
+    void invalidate();
+
+    boolean isDirty();
+
+    void clearDirty();
+
+    void setViewportSize(int w, int h);
+
+    void setLogicalSize(int w, int h);
+}
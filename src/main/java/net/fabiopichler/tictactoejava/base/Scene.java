@@ -24,13 +24,11 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.base;
 
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
-
 public abstract class Scene implements IScene {
     protected SceneManager sceneManager;
     protected Window window;
     protected Graphics graphics;
-    protected OpenGLRenderer renderer;
+    protected IRenderer renderer;
 
     @Override
     public abstract void onCreate();
@@ -44,6 +42,10 @@ public abstract class Scene implements IScene {
 
     public void onDraw() {}
 
+    public boolean needsUpdate() {
+        return false;
+    }
+
     public void setSceneManager(final SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
@@ -56,7 +58,7 @@ public abstract class Scene implements IScene {
         this.graphics = graphics;
     }
 
-    public void setRenderer(final OpenGLRenderer renderer) {
+    public void setRenderer(final IRenderer renderer) {
         this.renderer = renderer;
     }
 }
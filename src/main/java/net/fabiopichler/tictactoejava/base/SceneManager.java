@@ -24,16 +24,32 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.base;
 
+import net.fabiopichler.tictactoejava.base.opengl_renderer.GLState;
+import net.fabiopichler.tictactoejava.base.opengl_renderer.GpuTimer;
 import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
+import net.fabiopichler.tictactoejava.base.profiler.FrameProfiler;
+import net.fabiopichler.tictactoejava.base.profiler.Phase;
+import net.fabiopichler.tictactoejava.base.profiler.ProfilerOverlay;
+
+import static org.lwjgl.glfw.GLFW.*;
 
 public class SceneManager {
+    private static final double IDLE_TIMEOUT = 0.5;
+    private static final double BUSY_TIMEOUT = 1.0 / 60.0;
+
     private final Window window;
     private final Graphics graphics;
     private final OpenGLRenderer renderer;
     private final EventManager eventManager;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final ProfilerOverlay profilerOverlay;
+    private final boolean glStats = Boolean.getBoolean("tictactoe.glstats");
     private Scene scene;
     private Scene newScene;
     private long lastTime;
+    private boolean frameDrawn = true;
+    private long glStatsTime;
+    private int glStatsFrames;
 
     public SceneManager(final Window window, final Graphics graphics) {
         this.window = window;
@@ -41,12 +57,15 @@ public class SceneManager {
         this.renderer = graphics.getRenderer();
 
         eventManager = new EventManager(window, this::onEvent);
+        profilerOverlay = new ProfilerOverlay(renderer, profiler);
         lastTime = System.nanoTime();
     }
 
     public void release() {
         if (scene != null)
             scene.onDestroy();
+
+        profilerOverlay.release();
     }
 
     public void goTo(final Scene scene) {
@@ -68,9 +87,16 @@ public class SceneManager {
         scene.setGraphics(graphics);
         scene.setRenderer(renderer);
         scene.onCreate();
+        renderer.invalidate();
     }
 
     private void onEvent(final Event event) {
+        if (event.type == Event.Type.WindowRefresh)
+            renderer.invalidate();
+
+        if (event.type == Event.Type.Key && event.key.action == GLFW_PRESS && event.key.key == GLFW_KEY_F3)
+            profilerOverlay.toggle();
+
         if (scene != null)
             scene.onProcessEvent(event);
     }
@@ -79,10 +105,29 @@ public class SceneManager {
         while (!window.windowShouldClose()) {
             initScene();
 
-            eventManager.pollEvents();
+            final long frameStart = System.nanoTime();
+            final boolean polled = frameDrawn;
+
+            if (polled) {
+                eventManager.pollEvents();
+                profiler.record(Phase.Events, System.nanoTime() - frameStart);
+            } else if (scene != null && scene.needsUpdate()) {
+                eventManager.waitEvents(BUSY_TIMEOUT);
+            } else {
+                eventManager.waitEvents(IDLE_TIMEOUT);
+                lastTime = System.nanoTime();
+            }
 
+            final long updateStart = System.nanoTime();
             update();
-            draw();
+
+            frameDrawn = renderer.isDirty();
+
+            if (frameDrawn) {
+                draw();
+                profiler.record(Phase.Frame, System.nanoTime() - (polled ? frameStart : updateStart));
+                profiler.endFrame();
+            }
         }
     }
 
@@ -93,15 +138,58 @@ public class SceneManager {
 
         if (scene != null)
             scene.onUpdate(deltaTime);
+
+        profilerOverlay.update(deltaTime);
+        profiler.record(Phase.Update, System.nanoTime() - now);
     }
 
     public void draw() {
+        final GpuTimer gpuTimer = renderer.gpuTimer();
+        final long drawStart = System.nanoTime();
+
+        gpuTimer.begin();
         renderer.clear();
 
         if (scene != null)
             scene.onDraw();
 
+        profilerOverlay.draw();
+        renderer.flush();
+        gpuTimer.end();
+
+        final long swapStart = System.nanoTime();
+        profiler.record(Phase.Draw, swapStart - drawStart);
+
         window.swapBuffers();
+        profiler.record(Phase.Swap, System.nanoTime() - swapStart);
+        renderer.clearDirty();
+
+        for (long elapsed = gpuTimer.poll(); elapsed != -1; elapsed = gpuTimer.poll())
+            profiler.record(Phase.Gpu, elapsed);
+
+        if (glStats)
+            printGLStats();
+    }
+
+    private void printGLStats() {
+        final long now = System.nanoTime();
+        ++glStatsFrames;
+
+        if (now - glStatsTime < 1000000000L)
+            return;
+
+        final GLState state = renderer.glState();
+
+        System.out.printf("GL state: %d calls issued, %d skipped in %d frames%n",
+                state.issuedCalls(), state.skippedCalls(), glStatsFrames);
+
+        state.resetCounters();
+        glStatsTime = now;
+        glStatsFrames = 0;
+    }
+
+    public FrameProfiler profiler() {
+        return profiler;
     }
 
     public Window window() {
@@ -26,7 +26,6 @@ package net.fabiopichler.tictactoejava.base.drawables;
 
 import net.fabiopichler.tictactoejava.base.*;
 import net.fabiopichler.tictactoejava.base.freetype.FontType;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 import net.fabiopichler.tictactoejava.base.vectors.Rect;
 
 import static org.lwjgl.glfw.GLFW.*;
@@ -51,24 +50,27 @@ public class Button extends Layout implements IDrawable {
     private OnPressEventHandler onPressEventHandler;
     private State state = State.Normal;
 
-    public Button(final OpenGLRenderer renderer) {
+    public Button(final IRenderer renderer) {
         super(renderer, 60.f, 40.f);
 
         background = new RectangleShape(renderer, width(), height());
+        updateBackgroundColor();
     }
 
-    public Button(final OpenGLRenderer renderer, final Text text) {
+    public Button(final IRenderer renderer, final Text text) {
         super(renderer, 60.f, 40.f);
 
         background = new RectangleShape(renderer, width(), height());
+        updateBackgroundColor();
 
         setText(text);
     }
 
-    public Button(final OpenGLRenderer renderer, final Image image) {
+    public Button(final IRenderer renderer, final Image image) {
         super(renderer, 60.f, 40.f);
 
         background = new RectangleShape(renderer, width(), height());
+        updateBackgroundColor();
         icon = image;
     }
 
@@ -82,38 +84,59 @@ public class Button extends Layout implements IDrawable {
 
     public void setBackgroundColor(float r, float g, float b) {
         color.solid(r, g, b);
+        updateBackgroundColor();
     }
 
     public void setBackgroundColor(float r, float g, float b, float a) {
         color.solid(r, g, b, a);
+        updateBackgroundColor();
     }
 
     public void setBackgroundColor(Color color) {
         this.color.set(color);
+        updateBackgroundColor();
     }
 
     public void setBackgroundHoverColor(float r, float g, float b) {
         colorHover.solid(r, g, b);
+        updateBackgroundColor();
     }
 
     public void setBackgroundHoverColor(float r, float g, float b, float a) {
         colorHover.solid(r, g, b, a);
+        updateBackgroundColor();
     }
 
     public void setBackgroundHoverColor(Color color) {
         colorHover.set(color);
+        updateBackgroundColor();
     }
 
     public void setBackgroundPressedColor(float r, float g, float b) {
         colorPressed.solid(r, g, b);
+        updateBackgroundColor();
     }
 
     public void setBackgroundPressedColor(float r, float g, float b, float a) {
         colorPressed.solid(r, g, b, a);
+        updateBackgroundColor();
     }
 
     public void setBackgroundPressedColor(Color color) {
         colorPressed.set(color);
+        updateBackgroundColor();
+    }
+
+    @Override
+    public void setLayer(final Layer layer) {
+        super.setLayer(layer);
+        background.setLayer(layer);
+
+        if (text != null)
+            text.setLayer(layer);
+
+        if (icon != null)
+            icon.setLayer(layer);
     }
 
     public RectangleShape background() {
@@ -124,10 +147,11 @@ public class Button extends Layout implements IDrawable {
         if (this.text == null) {
             text.setColor(255, 255, 255);
             text.setFontType(FontType.Bold);
-            text.setFontSize(16);
+            text.setFontSize(FontSize.NORMAL);
         }
 
         this.text = text;
+        text.setLayer(layer());
         update();
     }
 
@@ -137,6 +161,7 @@ public class Button extends Layout implements IDrawable {
 
     public void setIcon(final Image icon) {
         this.icon = icon;
+        invalidate();
         update();
     }
 
@@ -158,7 +183,7 @@ public class Button extends Layout implements IDrawable {
         if (event.type == Event.Type.CursorPos || event.type == Event.Type.MouseButton) {
             if (event.mouseButton.button == GLFW_MOUSE_BUTTON_LEFT && pointerIsHovering(event)) {
                 if (event.mouseButton.action == GLFW_PRESS) {
-                    state = State.Pressed;
+                    setState(State.Pressed);
                     callPressedEvent();
                     return;
 
@@ -168,9 +193,9 @@ public class Button extends Layout implements IDrawable {
             }
 
             if (pointerIsHovering(event))
-                state = State.Hover;
+                setState(State.Hover);
             else
-                state = State.Normal;
+                setState(State.Normal);
         }
     }
 
@@ -178,13 +203,6 @@ public class Button extends Layout implements IDrawable {
     public void draw() {
         update();
 
-        if (state == State.Hover)
-            background.setColor(colorHover);
-        else if (state == State.Pressed)
-            background.setColor(colorPressed);
-        else
-            background.setColor(color);
-
         background.draw();
 
         if (icon != null)
@@ -194,6 +212,23 @@ public class Button extends Layout implements IDrawable {
             text.draw();
     }
 
+    private void setState(final State state) {
+        if (this.state == state)
+            return;
+
+        this.state = state;
+        updateBackgroundColor();
+    }
+
+    private void updateBackgroundColor() {
+        if (state == State.Hover)
+            background.setColor(colorHover);
+        else if (state == State.Pressed)
+            background.setColor(colorPressed);
+        else
+            background.setColor(color);
+    }
+
     private boolean pointerIsHovering(final Event event) {
         final Rect rect = rect();
 
@@ -25,12 +25,13 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.base.drawables;
 
 import net.fabiopichler.tictactoejava.base.Event;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 
 public abstract class Drawable implements IDrawable {
-    protected final OpenGLRenderer renderer;
+    protected final IRenderer renderer;
+    private Layer layer;
 
-    protected Drawable(final OpenGLRenderer renderer) {
+    protected Drawable(final IRenderer renderer) {
         this.renderer = renderer;
     }
 
@@ -40,6 +41,21 @@ public abstract class Drawable implements IDrawable {
 
     public void update(final double deltaTime) {}
 
+    public void setLayer(final Layer layer) {
+        this.layer = layer;
+    }
+
+    public Layer layer() {
+        return layer;
+    }
+
+    protected void invalidate() {
+        renderer.invalidate();
+
+        if (layer != null)
+            layer.invalidateContent();
+    }
+
     @Override
     public abstract void draw();
 }
@@ -25,11 +25,11 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.base.drawables;
 
 import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 import net.fabiopichler.tictactoejava.base.ImageBuffer;
 import net.fabiopichler.tictactoejava.base.TextureFilter;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.ImageData;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.Texture2D;
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
 import net.fabiopichler.tictactoejava.base.vectors.IntRect;
 import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
 
@@ -39,16 +39,18 @@ import java.nio.ByteBuffer;
 public class Image extends Layout implements IDrawable {
     private final IntVec2 realSize = new IntVec2();
     private final IntRect srcrect = new IntRect();
+    private final IntRect atlasSrcrect = new IntRect();
     private final Color color = new Color(255, 255, 255);
-    private Texture2D texture;
+    private IAtlasRegion region;
     private double angle;
 
-    public Image(final OpenGLRenderer renderer) {
+    public Image(final IRenderer renderer) {
         super(renderer);
     }
 
     public void release() {
-        renderer.destroyTexture(texture);
+        renderer.releaseImage(region);
+        region = null;
     }
 
     public boolean loadFromFile(final URL location) {
@@ -56,10 +58,17 @@ public class Image extends Layout implements IDrawable {
     }
 
     public boolean loadFromFile(final URL location, final TextureFilter filter) {
+        final IAtlasRegion cached = renderer.acquireImage(location.toString(), filter);
+
+        if (cached != null) {
+            setRegion(cached);
+            return true;
+        }
+
         final var imageBuffer = new ImageBuffer();
 
         if (imageBuffer.loadFromFile(location))
-            return createTexture(imageBuffer, filter);
+            return createTexture(location.toString(), imageBuffer, filter);
 
         return false;
     }
@@ -72,7 +81,7 @@ public class Image extends Layout implements IDrawable {
         final var imageBuffer = new ImageBuffer();
 
         if (imageBuffer.loadFromMemory(buffer))
-            return createTexture(imageBuffer, filter);
+            return createTexture(null, imageBuffer, filter);
 
         return false;
     }
@@ -82,6 +91,7 @@ public class Image extends Layout implements IDrawable {
         srcrect.y = y;
         srcrect.w = w;
         srcrect.h = h;
+        invalidate();
     }
 
     public void setSourceRect(final IntRect srcrect) {
@@ -89,16 +99,28 @@ public class Image extends Layout implements IDrawable {
         this.srcrect.y = srcrect.y;
         this.srcrect.w = srcrect.w;
         this.srcrect.h = srcrect.h;
+        invalidate();
     }
 
     public void setAngle(final double angle) {
+        if (this.angle == angle)
+            return;
+
         this.angle = angle;
+        invalidate();
     }
 
     @Override
     public void draw() {
-        if (texture != null)
-            renderer.draw(texture, srcrect, rect(), angle, color);
+        if (region == null)
+            return;
+
+        atlasSrcrect.x = region.x() + srcrect.x;
+        atlasSrcrect.y = region.y() + srcrect.y;
+        atlasSrcrect.w = srcrect.w;
+        atlasSrcrect.h = srcrect.h;
+
+        renderer.draw(region.texture(), atlasSrcrect, rect(), angle, color);
     }
 
     public IntVec2 realSize() {
@@ -107,25 +129,29 @@ public class Image extends Layout implements IDrawable {
 
     public void setColor(float r, float g, float b) {
         color.solid(r, g, b);
+        invalidate();
     }
 
     public void setColor(float r, float g, float b, float a) {
         color.solid(r, g, b, a);
+        invalidate();
     }
 
     public void setColor(Color color) {
         this.color.set(color);
+        invalidate();
     }
 
     public void setAlpha(float a) {
         color.alpha(a);
+        invalidate();
     }
 
     public Color color() {
         return color;
     }
 
-    private boolean createTexture(ImageBuffer imageBuffer, TextureFilter filter) {
+    private boolean createTexture(String key, ImageBuffer imageBuffer, TextureFilter filter) {
         final ImageData image = new ImageData();
         image.width = imageBuffer.width();
         image.height = imageBuffer.height();
@@ -134,21 +160,28 @@ public class Image extends Layout implements IDrawable {
         image.rmask = 0x000000ff;
         image.buffer = imageBuffer.buffer();
 
-        renderer.destroyTexture(texture);
-        texture = renderer.createTexture(image, filter);
+        final IAtlasRegion created = renderer.createImage(key, image, filter);
+        imageBuffer.release();
 
-        if (texture != null) {
-            realSize.x = image.width;
-            realSize.y = image.height;
-            srcrect.w = image.width;
-            srcrect.h = image.height;
-            setSize(image.width, image.height);
-        } else {
+        if (created == null)
             throw new RuntimeException("Unable to create texture");
-        }
 
-        imageBuffer.release();
+        setRegion(created);
+
+        return true;
+    }
+
+    private void setRegion(final IAtlasRegion region) {
+        renderer.releaseImage(this.region);
+        this.region = region;
+        invalidate();
 
-        return texture != null;
+        realSize.x = region.width();
+        realSize.y = region.height();
+        srcrect.x = 0;
+        srcrect.y = 0;
+        srcrect.w = region.width();
+        srcrect.h = region.height();
+        setSize(region.width(), region.height());
     }
 }
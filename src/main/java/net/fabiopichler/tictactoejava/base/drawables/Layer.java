@@ -0,0 +1,78 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.drawables;
+
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.base.render.ILayerTarget;
+
+public class Layer extends Layout implements IDrawable {
+    private final IDrawable content;
+    private ILayerTarget target;
+    private boolean contentChanged = true;
+
+    public Layer(final IRenderer renderer, final float width, final float height, final IDrawable content) {
+        super(renderer, width, height);
+
+        this.content = content;
+    }
+
+    public void release() {
+        renderer.destroyLayerTarget(target);
+        target = null;
+    }
+
+    public void invalidateContent() {
+        contentChanged = true;
+        renderer.invalidate();
+    }
+
+    @Override
+    public void draw() {
+        final float scale = renderer.pixelScale();
+        final int pixel_w = Math.max(1, (int) Math.ceil(width() * scale));
+        final int pixel_h = Math.max(1, (int) Math.ceil(height() * scale));
+
+        if (target == null || target.width() != pixel_w || target.height() != pixel_h) {
+            renderer.destroyLayerTarget(target);
+            target = renderer.createLayerTarget(pixel_w, pixel_h);
+            contentChanged = true;
+        }
+
+        if (contentChanged) {
+            renderer.beginLayer(target, rect());
+            content.draw();
+            renderer.endLayer();
+
+            contentChanged = false;
+        }
+
+        renderer.drawLayer(target, rect());
+    }
+
+    @Override
+    protected void onLayoutUpdate() {
+        contentChanged = true;
+    }
+}
@@ -24,19 +24,19 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.base.drawables;
 
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 import net.fabiopichler.tictactoejava.base.vectors.Rect;
 
 public abstract class Layout extends Drawable {
     private final Rect rect;
 
-    protected Layout(final OpenGLRenderer renderer) {
+    protected Layout(final IRenderer renderer) {
         super(renderer);
 
         rect = new Rect(0, 0, 0, 0);
     }
 
-    protected Layout(final OpenGLRenderer renderer, final float width, final float height) {
+    protected Layout(final IRenderer renderer, final float width, final float height) {
         super(renderer);
 
         rect = new Rect(0, 0, width, height);
@@ -45,6 +45,9 @@ public abstract class Layout extends Drawable {
     protected void onLayoutUpdate() {}
 
     public void setPosition(final float x, final float y) {
+        if (rect.x != x || rect.y != y)
+            invalidate();
+
         rect.x = x;
         rect.y = y;
 
@@ -52,6 +55,9 @@ public abstract class Layout extends Drawable {
     }
 
     public void setSize(final float w, final float h) {
+        if (rect.w != w || rect.h != h)
+            invalidate();
+
         rect.w = w;
         rect.h = h;
 
@@ -59,30 +65,45 @@ public abstract class Layout extends Drawable {
     }
 
     public void setX(final float x) {
+        if (rect.x != x)
+            invalidate();
+
         rect.x = x;
 
         onLayoutUpdate();
     }
 
     public void setY(final float y) {
+        if (rect.y != y)
+            invalidate();
+
         rect.y = y;
 
         onLayoutUpdate();
     }
 
     public void setWidth(final float w) {
+        if (rect.w != w)
+            invalidate();
+
         rect.w = w;
 
         onLayoutUpdate();
     }
 
     public void setHeight(final float h) {
+        if (rect.h != h)
+            invalidate();
+
         rect.h = h;
 
         onLayoutUpdate();
     }
 
     public void move(final float velX, final float velY) {
+        if (velX != 0 || velY != 0)
+            invalidate();
+
         rect.x += velX;
         rect.y += velY;
 
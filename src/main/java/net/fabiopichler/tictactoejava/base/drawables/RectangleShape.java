@@ -25,12 +25,12 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.base.drawables;
 
 import net.fabiopichler.tictactoejava.base.Color;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 
 public class RectangleShape extends Layout implements IDrawable {
     private final Color color = new Color(0, 0, 0, 0.f);
 
-    public RectangleShape(final OpenGLRenderer renderer, final float width, final float height) {
+    public RectangleShape(final IRenderer renderer, final float width, final float height) {
         super(renderer, width, height);
     }
 
@@ -41,14 +41,17 @@ public class RectangleShape extends Layout implements IDrawable {
 
     public void setColor(float r, float g, float b) {
         color.solid(r, g, b);
+        invalidate();
     }
 
     public void setColor(float r, float g, float b, float a) {
         color.solid(r, g, b, a);
+        invalidate();
     }
 
     public void setColor(Color color) {
         this.color.set(color);
+        invalidate();
     }
 
     public Color color() {
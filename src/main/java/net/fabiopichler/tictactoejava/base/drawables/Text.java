@@ -25,16 +25,18 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.base.drawables;
 
 import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 import net.fabiopichler.tictactoejava.base.freetype.*;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 import net.fabiopichler.tictactoejava.base.vectors.Vec2;
 
 public class Text extends Layout implements IDrawable {
     private final Color color = new Color(60, 60, 60);
+    private Color outlineColor;
+    private float outlineWidth;
     private RectangleShape background;
     private Font font;
     private String fontName;
-    private int fontSize = 16;
+    private int fontSize = FontSize.NORMAL;
     private FontType fontType = FontType.Normal;
     private TextAlign textAlign = TextAlign.Left;
     private String text;
@@ -43,26 +45,26 @@ public class Text extends Layout implements IDrawable {
     private boolean changed = true;
     private int visibleChars = -1;
 
-    public Text(final OpenGLRenderer renderer) {
+    public Text(final IRenderer renderer) {
         super(renderer);
 
         text = "";
     }
 
-    public Text(final OpenGLRenderer renderer, final String text) {
+    public Text(final IRenderer renderer, final String text) {
         super(renderer);
 
         this.text = text;
     }
 
-    public Text(final OpenGLRenderer renderer, final String text, final int fontSize) {
+    public Text(final IRenderer renderer, final String text, final int fontSize) {
         super(renderer);
 
         this.text = text;
         this.fontSize = fontSize;
     }
 
-    public Text(final OpenGLRenderer renderer, final String text, final int fontSize, final FontType fontType) {
+    public Text(final IRenderer renderer, final String text, final int fontSize, final FontType fontType) {
         super(renderer);
 
         this.text = text;
@@ -71,6 +73,7 @@ public class Text extends Layout implements IDrawable {
     }
 
     public void release() {
+        renderer.releaseText(drawableText);
     }
 
     public void setColor(final Color color) {
@@ -78,20 +81,38 @@ public class Text extends Layout implements IDrawable {
             this.color.set(color);
         else
             this.color.solid(60, 60, 60);
+
+        invalidate();
     }
 
     public void setColor(float r, float g, float b) {
         color.solid(r, g, b);
+        invalidate();
     }
 
     public void setColor(float r, float g, float b, float a) {
         color.solid(r, g, b, a);
+        invalidate();
     }
 
     public Color color() {
         return color;
     }
 
+    public void setOutline(final Color color, final float width) {
+        outlineColor = color != null && width > 0.0f ? new Color().set(color) : null;
+        outlineWidth = outlineColor != null ? width : 0.0f;
+        invalidate();
+    }
+
+    public Color outlineColor() {
+        return outlineColor;
+    }
+
+    public float outlineWidth() {
+        return outlineWidth;
+    }
+
     public void setText(final String text) {
         if (this.text.equals(text))
             return;
@@ -110,6 +131,7 @@ public class Text extends Layout implements IDrawable {
 
         this.textAlign = textAlign;
         changed = true;
+        invalidate();
     }
 
     public TextAlign textAlign() {
@@ -169,23 +191,22 @@ public class Text extends Layout implements IDrawable {
     }
 
     public void hideChars() {
-        visibleChars = 0;
+        setVisibleChars(0);
     }
 
     public void showChars() {
-        visibleChars = -1;
+        setVisibleChars(-1);
     }
 
     public void showChars(int number) {
         if (number < -1 || number > drawableText.characters().size())
             return;
 
-        visibleChars = number;
+        setVisibleChars(number);
     }
 
     public void incrementVisibleChar(int number) {
-        visibleChars += number;
-        visibleChars = Math.max(0, Math.min(drawableText.characters().size(), visibleChars));
+        setVisibleChars(Math.max(0, Math.min(drawableText.characters().size(), visibleChars + number)));
     }
 
     public int visibleChars() {
@@ -196,11 +217,20 @@ public class Text extends Layout implements IDrawable {
         if (background == null) {
             background = new RectangleShape(renderer, width(), height());
             background.setPosition(x(), y());
+            background.setLayer(layer());
         }
 
         return background;
     }
 
+    @Override
+    public void setLayer(final Layer layer) {
+        super.setLayer(layer);
+
+        if (background != null)
+            background.setLayer(layer);
+    }
+
     @Override
     public void update() {
         if (changed)
@@ -214,13 +244,23 @@ public class Text extends Layout implements IDrawable {
         if (background != null)
             background.draw();
 
-        renderer.draw(drawableText, x(), y(), color, visibleChars);
+        renderer.draw(drawableText, x(), y(), color, visibleChars, outlineColor, outlineWidth);
+    }
+
+    private void setVisibleChars(final int number) {
+        if (visibleChars == number)
+            return;
+
+        visibleChars = number;
+        invalidate();
     }
 
     private void setup() {
         changed = false;
+        invalidate();
 
         font = FontManager.instance().getFont(fontName, fontType, fontSize);
+        renderer.releaseText(drawableText);
         drawableText = font.createDrawableText(text, wrapLength, textAlign);
         final Vec2 size = drawableText.size();
 
@@ -0,0 +1,258 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.freetype;
+
+import net.fabiopichler.tictactoejava.base.utils.SkylinePacker;
+import org.lwjgl.BufferUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class AtlasCacheFile {
+    static final String DIRECTORY_PROPERTY = "tictactoe.fontcache";
+
+    private static final int MAGIC = 0x41475454;
+    private static final int VERSION = 2;
+    private static final int HEADER_INTS = 8;
+    private static final int GLYPH_INTS = 11;
+
+    private final int lineHeight;
+    private final int ascender;
+    private final List<ByteBuffer> pages;
+    private final List<SkylinePacker> packers;
+    private final Map<Character, FontChar> characters;
+
+    private AtlasCacheFile(final int lineHeight, final int ascender, final List<ByteBuffer> pages,
+                           final List<SkylinePacker> packers, final Map<Character, FontChar> characters) {
+        this.lineHeight = lineHeight;
+        this.ascender = ascender;
+        this.pages = pages;
+        this.packers = packers;
+        this.characters = characters;
+    }
+
+    int lineHeight() {
+        return lineHeight;
+    }
+
+    int ascender() {
+        return ascender;
+    }
+
+    List<ByteBuffer> pages() {
+        return pages;
+    }
+
+    List<SkylinePacker> packers() {
+        return packers;
+    }
+
+    Map<Character, FontChar> characters() {
+        return characters;
+    }
+
+    static Path path(final Fonts fonts, final int fontSize, final String charCodes) {
+        final String directory = System.getProperty(DIRECTORY_PROPERTY,
+                Path.of(System.getProperty("user.home"), ".cache", "tictactoe-java", "fonts").toString());
+
+        if (directory.isEmpty())
+            return null;
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            digest.update(fonts.hash());
+            digest.update(ByteBuffer.allocate(12).putInt(VERSION).putInt(fontSize).putInt(fonts.sdf() ? 1 : 0).flip());
+            digest.update(charCodes.getBytes(StandardCharsets.UTF_8));
+
+            final StringBuilder name = new StringBuilder();
+
+            for (final byte b : digest.digest())
+                name.append(String.format("%02x", b));
+
+            return Path.of(directory, name.append(".atlas").toString());
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static AtlasCacheFile read(final Path file, final int pageSize) {
+        if (file == null || !Files.isRegularFile(file))
+            return null;
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = readFully(channel, ByteBuffer.allocate(HEADER_INTS * Integer.BYTES));
+
+            if (header.getInt() != MAGIC || header.getInt() != VERSION || header.getInt() != pageSize)
+                return null;
+
+            final int lineHeight = header.getInt();
+            final int ascender = header.getInt();
+            final int pageCount = header.getInt();
+            final int glyphCount = header.getInt();
+            final int skylineInts = header.getInt();
+            final long pageBytes = (long) pageSize * pageSize;
+            final long metadataBytes = ((long) glyphCount * GLYPH_INTS + skylineInts) * Integer.BYTES;
+
+            if (pageCount < 0 || glyphCount < 0 || skylineInts < 0 || metadataBytes > Integer.MAX_VALUE
+                    || channel.size() != header.capacity() + metadataBytes + pageCount * pageBytes)
+                return null;
+
+            final ByteBuffer metadata = readFully(channel, ByteBuffer.allocate((int) metadataBytes));
+            final Map<Character, FontChar> characters = new HashMap<>(glyphCount * 2);
+
+            for (int i = 0; i < glyphCount; ++i) {
+                final char key = (char) metadata.getInt();
+                final var fontChar = new FontChar((char) metadata.getInt(), metadata.getInt(), metadata.getInt(),
+                        metadata.getInt(), metadata.getInt(), metadata.getInt(), metadata.getInt(), metadata.getInt(),
+                        new FontChar.Metrics(metadata.getInt()), metadata.getInt());
+
+                characters.put(key, fontChar);
+            }
+
+            final List<SkylinePacker> packers = new ArrayList<>(pageCount);
+
+            for (int i = 0; i < pageCount; ++i) {
+                final int usedArea = metadata.getInt();
+                final int nodeCount = metadata.getInt();
+
+                if (nodeCount < 0 || nodeCount > metadata.remaining() / (3 * Integer.BYTES))
+                    return null;
+
+                final int[] nodes = new int[nodeCount * 3];
+                final var packer = new SkylinePacker(pageSize, pageSize);
+
+                metadata.asIntBuffer().get(nodes);
+                metadata.position(metadata.position() + nodes.length * Integer.BYTES);
+                packer.restore(nodes, usedArea);
+                packers.add(packer);
+            }
+
+            if (metadata.hasRemaining())
+                return null;
+
+            final List<ByteBuffer> pages = new ArrayList<>(pageCount);
+
+            for (int i = 0; i < pageCount; ++i)
+                pages.add(readFully(channel, BufferUtils.createByteBuffer((int) pageBytes)));
+
+            return new AtlasCacheFile(lineHeight, ascender, pages, packers, characters);
+
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring font cache " + file + ": " + e);
+            return null;
+        }
+    }
+
+    static void write(final Path file, final int lineHeight, final int ascender, final GlyphAtlas atlas,
+                      final Map<Character, FontChar> characters) {
+        if (file == null)
+            return;
+
+        final int pageCount = atlas.pageCount();
+        final int[][] skylines = new int[pageCount][];
+        int skylineInts = 0;
+
+        for (int i = 0; i < pageCount; ++i) {
+            skylines[i] = atlas.packer(i).skyline();
+            skylineInts += 2 + skylines[i].length;
+        }
+
+        final ByteBuffer header = ByteBuffer
+                .allocate((HEADER_INTS + characters.size() * GLYPH_INTS + skylineInts) * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        header.putInt(MAGIC).putInt(VERSION).putInt(atlas.pageSize());
+        header.putInt(lineHeight).putInt(ascender).putInt(pageCount).putInt(characters.size()).putInt(skylineInts);
+
+        for (final var entry : characters.entrySet()) {
+            final FontChar fontChar = entry.getValue();
+
+            header.putInt(entry.getKey()).putInt(fontChar.charCode());
+            header.putInt(fontChar.x()).putInt(fontChar.y()).putInt(fontChar.width()).putInt(fontChar.height());
+            header.putInt(fontChar.bitmap_left()).putInt(fontChar.bitmap_top()).putInt(fontChar.advance_x());
+            header.putInt(fontChar.metrics().horiAdvance()).putInt(fontChar.page());
+        }
+
+        for (int i = 0; i < pageCount; ++i) {
+            header.putInt(atlas.packer(i).usedArea()).putInt(skylines[i].length / 3);
+
+            for (final int value : skylines[i])
+                header.putInt(value);
+        }
+
+        header.flip();
+
+        try {
+            Files.createDirectories(file.getParent());
+            final Path temp = Files.createTempFile(file.getParent(), "atlas", ".tmp");
+
+            try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining())
+                    channel.write(header);
+
+                for (int i = 0; i < pageCount; ++i) {
+                    final ByteBuffer page = atlas.staging(i);
+
+                    if (page == null)
+                        throw new IOException("Atlas page " + i + " already uploaded");
+
+                    while (page.hasRemaining())
+                        channel.write(page);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            System.err.println("Could not write font cache " + file + ": " + e);
+        }
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            if (channel.read(buffer) < 0)
+                throw new IOException("Unexpected end of file");
+
+        return buffer.flip().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -30,9 +30,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class DrawableText {
+    public static final int FLOATS_PER_GLYPH = 8;
+
     private final Font font;
     private final List<DrawableChar> characters = new ArrayList<>();
     private final Vec2 size;
+    private float[] glyphs = new float[0];
+    private int[] pages = new int[0];
+    private Object instances;
 
     public DrawableText(Font font, float width, float height) {
         this.font = font;
@@ -50,4 +55,38 @@ public class DrawableText {
     public Vec2 size() {
         return size;
     }
+
+    public float[] glyphs() {
+        return glyphs;
+    }
+
+    public void setGlyphs(final float[] glyphs, final int[] pages) {
+        this.glyphs = glyphs;
+        this.pages = pages;
+    }
+
+    public int page(final int glyph) {
+        return pages[glyph];
+    }
+
+    public int pageRunEnd(final int start, final int count) {
+        int end = start + 1;
+
+        while (end < count && pages[end] == pages[start])
+            ++end;
+
+        return end;
+    }
+
+    public int glyphCount() {
+        return glyphs.length / FLOATS_PER_GLYPH;
+    }
+
+    public Object instances() {
+        return instances;
+    }
+
+    public void setInstances(final Object instances) {
+        this.instances = instances;
+    }
 }
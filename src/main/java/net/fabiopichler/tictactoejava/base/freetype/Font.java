@@ -43,6 +43,9 @@ public class Font {
     private final int lineHeight;
     private final int ascender;
     private final Map<Character, FontChar> characters;
+    private final GlyphCache glyphCache;
+    private final float scale;
+    private final boolean sdf;
 
     public Font(
             final Object texture,
@@ -60,10 +63,48 @@ public class Font {
         this.lineHeight = lineHeight;
         this.ascender = ascender;
         this.characters = characters;
+        this.glyphCache = null;
+        this.scale = 1.0f;
+        this.sdf = false;
+    }
+
+    Font(
+            final GlyphCache glyphCache,
+            final String name,
+            final FontType type,
+            final int size,
+            final int lineHeight,
+            final int ascender,
+            final float scale,
+            final boolean sdf
+    ) {
+        this.texture = null;
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.lineHeight = lineHeight;
+        this.ascender = ascender;
+        this.characters = null;
+        this.glyphCache = glyphCache;
+        this.scale = scale;
+        this.sdf = sdf;
+    }
+
+    Font scaled(final int size, final float scale) {
+        return new Font(glyphCache, name, type, size, Math.round(lineHeight * scale), Math.round(ascender * scale),
+                scale, sdf);
     }
 
     public Object texture() {
-        return texture;
+        return texture(0);
+    }
+
+    public Object texture(final int page) {
+        return glyphCache != null ? glyphCache.texture(page) : texture;
+    }
+
+    public int pageCount() {
+        return glyphCache != null ? glyphCache.pageCount() : 1;
     }
 
     public String name() {
@@ -82,14 +123,42 @@ public class Font {
         return lineHeight;
     }
 
+    public float scale() {
+        return scale;
+    }
+
+    public boolean isSdf() {
+        return sdf;
+    }
+
     public Map<Character, FontChar> characters() {
-        return characters;
+        return glyphCache != null ? glyphCache.characters() : characters;
     }
 
     public FontChar getCharacter(final char charCode) {
+        if (glyphCache != null)
+            return glyphCache.get(charCode);
+
         return characters.get(characters.containsKey(charCode) ? charCode : UNKNOWN_CHAR);
     }
 
+    public void preload(final String charCodes) {
+        if (glyphCache != null)
+            glyphCache.load(charCodes);
+    }
+
+    void upload() {
+        if (glyphCache != null)
+            glyphCache.flush();
+    }
+
+    void release(final OnDeleteTextureEventHandler deleteTexture) {
+        if (glyphCache != null)
+            glyphCache.release(deleteTexture);
+        else if (deleteTexture != null)
+            deleteTexture.call(texture);
+    }
+
     public boolean equals(final Font other) {
         return other != null && name.equals(other.name) && type == other.type && size == other.size;
     }
@@ -132,10 +201,10 @@ public class Font {
 
                             if (ch.charCode() != SPACE_CHAR) {
                                 getLastLine(textLines).fontChars.add(ch);
-                                currentWidth += ch.metrics().horiAdvance();
+                                currentWidth += ch.horiAdvance(scale);
                             }
 
-                            lastLine.width -= ch.metrics().horiAdvance();
+                            lastLine.width -= ch.horiAdvance(scale);
                         }
 
                         if (lastLine.fontChars.size() > index + 1)
@@ -147,7 +216,7 @@ public class Font {
             if (!isNewLine) {
                 final FontChar fontChar = getCharacter(charCode);
                 getLastLine(textLines).fontChars.add(fontChar);
-                currentWidth += fontChar.metrics().horiAdvance();
+                currentWidth += fontChar.horiAdvance(scale);
             }
 
             if (textWidth < currentWidth)
@@ -165,16 +234,29 @@ public class Font {
 
     private boolean next(final int wrapLength, final float currentWidth, final String inputText, final int charIndex) {
         final FontChar ch = getCharacter(inputText.charAt(charIndex));
+        final boolean overflows = currentWidth > wrapLength && ch.charCode() != SPACE_CHAR;
+        final boolean isLastChar = charIndex + 1 >= inputText.length();
+
+        if (overflows || isLastChar)
+            return overflows;
+
         final FontChar nextCh = getCharacter(inputText.charAt(charIndex + 1));
 
-        return (currentWidth > wrapLength && ch.charCode() != SPACE_CHAR)
-                || (((currentWidth + nextCh.metrics().horiAdvance()) > wrapLength) && nextCh.charCode() != SPACE_CHAR);
+        return ((currentWidth + nextCh.horiAdvance(scale)) > wrapLength) && nextCh.charCode() != SPACE_CHAR;
     }
 
     private void addCharactersToText(final List<TextLine> textLines, final TextAlign textAlign,
                                      final int textWidth, final DrawableText drawableText) {
         float pen_x = 0;
         float pen_y = ascender;
+        int glyphCount = 0;
+
+        for (final TextLine line : textLines)
+            glyphCount += line.fontChars.size();
+
+        final float[] glyphs = new float[glyphCount * DrawableText.FLOATS_PER_GLYPH];
+        final int[] pages = new int[glyphCount];
+        int index = 0;
 
         for (final TextLine line : textLines) {
             if (textAlign == TextAlign.Center)
@@ -183,20 +265,34 @@ public class Font {
                 pen_x += textWidth - line.width;
 
             for (final FontChar fontChar : line.fontChars) {
-                drawableText.characters().add(new DrawableChar(
+                final var drawableChar = new DrawableChar(
                         fontChar,
-                        pen_x + fontChar.bitmap_left(),
-                        pen_y - fontChar.bitmap_top(),
-                        fontChar.width(),
-                        fontChar.height()
-                ));
-
-                pen_x += fontChar.advance_x();
+                        pen_x + fontChar.bitmap_left() * scale,
+                        pen_y - fontChar.bitmap_top() * scale,
+                        fontChar.width() * scale,
+                        fontChar.height() * scale
+                );
+
+                drawableText.characters().add(drawableChar);
+                pages[index / DrawableText.FLOATS_PER_GLYPH] = fontChar.page();
+
+                glyphs[index++] = drawableChar.x();
+                glyphs[index++] = drawableChar.y();
+                glyphs[index++] = drawableChar.width();
+                glyphs[index++] = drawableChar.height();
+                glyphs[index++] = fontChar.x();
+                glyphs[index++] = fontChar.y();
+                glyphs[index++] = fontChar.width();
+                glyphs[index++] = fontChar.height();
+
+                pen_x += fontChar.advance_x() * scale;
             }
 
             pen_x = 0;
             pen_y += lineHeight;
         }
+
+        drawableText.setGlyphs(glyphs, pages);
     }
 
     private static TextLine getLastLine(List<TextLine> textLines) {
@@ -46,6 +46,7 @@ public class FontChar {
     private final int bitmap_top;
     private final int advance_x;
     private final Metrics metrics;
+    private final int page;
 
     public FontChar(
             final char charCode,
@@ -57,6 +58,21 @@ public class FontChar {
             final int bitmap_top,
             final int advance_x,
             final Metrics metrics
+    ) {
+        this(charCode, x, y, width, height, bitmap_left, bitmap_top, advance_x, metrics, 0);
+    }
+
+    public FontChar(
+            final char charCode,
+            final int x,
+            final int y,
+            final int width,
+            final int height,
+            final int bitmap_left,
+            final int bitmap_top,
+            final int advance_x,
+            final Metrics metrics,
+            final int page
     ) {
         this.charCode = charCode;
         this.x = x;
@@ -67,6 +83,7 @@ public class FontChar {
         this.bitmap_top = bitmap_top;
         this.advance_x = advance_x;
         this.metrics = metrics;
+        this.page = page;
     }
 
     public char charCode() {
@@ -104,4 +121,12 @@ public class FontChar {
     public Metrics metrics() {
         return metrics;
     }
+
+    public int horiAdvance(final float scale) {
+        return scale == 1.0f ? metrics.horiAdvance() : Math.round(metrics.horiAdvance() * scale);
+    }
+
+    public int page() {
+        return page;
+    }
 }
@@ -24,20 +24,37 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.base.freetype;
 
-import org.lwjgl.BufferUtils;
+import net.fabiopichler.tictactoejava.base.TextureFilter;
 import org.lwjgl.util.freetype.*;
 
-import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.lwjgl.util.freetype.FreeType.*;
 
 public class FontManager {
+    public static final int SDF_SIZE = 48;
+    public static final int SDF_SPREAD = 8;
+
+    private static class PrewarmJob {
+        public final Fonts fonts;
+        public final int size;
+        public Font font;
+
+        public PrewarmJob(final Fonts fonts, final int size) {
+            this.fonts = fonts;
+            this.size = size;
+        }
+    }
+
     private static FontManager self;
     private final long library;
     private final Map<String, Fonts> fonts = new HashMap<>();
     private Fonts defaultFont;
+    private Object eventsOwner;
     private OnCreateTextureEventHandler createTexture;
+    private OnUpdateTextureEventHandler updateTexture;
     private OnDeleteTextureEventHandler deleteTexture;
     private String charCodeList;
 
@@ -68,9 +85,14 @@ public class FontManager {
 
     public void deleteTextures() {
         if (deleteTexture != null) {
-            for (final var entry : fonts.entrySet())
+            for (final var entry : fonts.entrySet()) {
+                if (entry.getValue().sdfBase() != null)
+                    entry.getValue().sdfBase().release(deleteTexture);
+
                 for (final var e : entry.getValue().fonts().entrySet())
-                    deleteTexture.call(e.getValue().texture());
+                    if (!e.getValue().isSdf())
+                        e.getValue().release(deleteTexture);
+            }
 
             fonts.clear();
 
@@ -79,13 +101,25 @@ public class FontManager {
         }
     }
 
-    public void setEvents(OnCreateTextureEventHandler createTexture, OnDeleteTextureEventHandler deleteTexture) {
+    public void setEvents(Object owner, OnCreateTextureEventHandler createTexture,
+                          OnUpdateTextureEventHandler updateTexture, OnDeleteTextureEventHandler deleteTexture) {
+        if (eventsOwner != null && eventsOwner != owner)
+            throw new IllegalStateException("Font textures already belong to another renderer;"
+                    + " release it before using FontManager with a different renderer backend");
+
+        this.eventsOwner = owner;
         this.createTexture = createTexture;
+        this.updateTexture = updateTexture;
         this.deleteTexture = deleteTexture;
     }
 
-    public void removeEvents() {
+    public void removeEvents(Object owner) {
+        if (eventsOwner != owner)
+            return;
+
+        eventsOwner = null;
         createTexture = null;
+        updateTexture = null;
         deleteTexture = null;
     }
 
@@ -94,14 +128,21 @@ public class FontManager {
     }
 
     public void addFont(final String family, final FontType type, final String fileName, final int filter) {
-        final String name = Fonts.makeName(family, type);
+        addFont(new Fonts(family, type, fileName, filter));
+    }
+
+    public void addSdfFont(final String family, final FontType type, final String fileName) {
+        addFont(new Fonts(family, type, fileName, TextureFilter.Linear.ordinal(), true));
+    }
+
+    private void addFont(final Fonts font) {
+        final String name = font.name();
 
         if (fonts.containsKey(name)) {
             System.err.println("The font already exists: " + name);
             return;
         }
 
-        final var font = new Fonts(family, type, fileName, filter);
         fonts.put(name, font);
 
         if (defaultFont == null)
@@ -117,7 +158,7 @@ public class FontManager {
         defaultFont = fonts.get(name);
     }
 
-    public Font getFont(final String family, final FontType type, final int fontSize) {
+    public synchronized Font getFont(final String family, final FontType type, final int fontSize) {
         if (family == null && defaultFont == null)
             throw new RuntimeException("Default font not defined");
 
@@ -131,94 +172,136 @@ public class FontManager {
         if (font.fonts().containsKey(fontSize))
             return font.fonts().get(fontSize);
 
-        final Font newFont = newFontFace(font, fontSize);
+        final Font newFont = font.sdf() ? newSdfFont(font, fontSize) : newFontFace(font, fontSize);
         font.fonts().put(fontSize, newFont);
 
         return newFont;
     }
 
-    public Font newFontFace(final Fonts fonts, final int fontSize) {
-        if (createTexture == null)
-            throw new RuntimeException("FontManager.addFont: createTexture event not defined");
+    public synchronized Font newSdfFont(final Fonts fonts, final int fontSize) {
+        if (fonts.sdfBase() == null)
+            fonts.setSdfBase(newFontFace(fonts, SDF_SIZE));
 
-        final FT_Face face = FreeType.createFace(library, fonts.fileName());
+        return fonts.sdfBase().scaled(fontSize, (float)fontSize / SDF_SIZE);
+    }
 
-        FT_Select_Charmap(face, FT_ENCODING_UNICODE);
-        FT_Set_Pixel_Sizes(face, 0, fontSize);
+    public synchronized Font newFontFace(final Fonts fonts, final int fontSize) {
+        checkEvents();
 
-        final Map<Character, FontChar> fontCharacters = new HashMap<>();
-        final int ascender = (int)(face.size().metrics().ascender() >> 6);
-        final int descender = (int)(face.size().metrics().descender() >> 6);
-        final int lineHeight = ascender - descender;
-        final int bitmapLineHeight = Math.abs(ascender);
-        final int bitmapWidth = (int)Math.round((double)fontSize * Math.sqrt(charCodeList.length()));
-        int bitmapHeight = bitmapLineHeight;
-        ByteBuffer bitmapBuffer = BufferUtils.createByteBuffer(bitmapWidth * bitmapHeight);
-        int charX = 0;
-        int charY = 0;
-
-        for (final char charCode : charCodeList.toCharArray()) {
-            if (FT_Load_Char(face, charCode, FT_LOAD_RENDER | FT_LOAD_FORCE_AUTOHINT /*| FT_LOAD_TARGET_LIGHT*/) != 0)
-                continue;
+        final Font font = buildFont(fonts, fontSize, library, charCodeList);
+        font.upload();
 
-            final FT_GlyphSlot glyph = face.glyph();
+        return font;
+    }
 
-            if (glyph == null)
-                continue;
+    public synchronized void prewarm(final int threads, final int... sizes) {
+        final List<PrewarmJob> jobs = new ArrayList<>();
 
-            final FT_Bitmap bitmap = glyph.bitmap();
-            final ByteBuffer bitmapGlyphBuffer = bitmap.buffer(bitmap.width() * bitmap.rows());
+        for (final Fonts font : fonts.values()) {
+            if (font.sdf()) {
+                if (font.sdfBase() == null)
+                    jobs.add(new PrewarmJob(font, SDF_SIZE));
 
-            if (charX + bitmap.width() >= bitmapWidth) {
-                charX = 0;
-                charY += bitmapLineHeight;
-                bitmapHeight += bitmapLineHeight;
-                bitmapBuffer = resizeBuffer(bitmapBuffer, bitmapWidth * bitmapHeight);
+                continue;
             }
 
-            for (int row = 0; row < bitmap.rows(); ++row) {
-                for (int col = 0; col < bitmap.width(); ++col) {
-                    final int x = charX + col;
-                    final int y = charY + row;
+            for (final int size : sizes)
+                if (!font.fonts().containsKey(size))
+                    jobs.add(new PrewarmJob(font, size));
+        }
+
+        if (jobs.isEmpty())
+            return;
+
+        checkEvents();
+
+        final int workers = Math.max(1, Math.min(threads, jobs.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        final Queue<PrewarmJob> queue = new ConcurrentLinkedQueue<>(jobs);
+        final List<Future<?>> futures = new ArrayList<>();
+        final String charCodes = charCodeList;
 
-                    if (bitmapGlyphBuffer != null) {
-                        final byte pixel = bitmapGlyphBuffer.get(row * bitmap.pitch() + col);
-                        bitmapBuffer.put(y * bitmapWidth + x, pixel);
+        try {
+            for (int i = 0; i < workers; ++i) {
+                futures.add(executor.submit(() -> {
+                    final long workerLibrary = FreeType.initFreeType();
+
+                    try {
+                        PrewarmJob job;
+
+                        while ((job = queue.poll()) != null)
+                            job.font = buildFont(job.fonts, job.size, workerLibrary, charCodes);
+                    } finally {
+                        FT_Done_FreeType(workerLibrary);
                     }
-                }
+                }));
             }
 
-            fontCharacters.put(charCode, new FontChar(
-                    charCode,
-                    charX,
-                    charY,
-                    bitmap.width(),
-                    bitmap.rows(),
-                    glyph.bitmap_left(),
-                    glyph.bitmap_top(),
-                    (int)(glyph.advance().x() >> 6),
-                    new FontChar.Metrics(
-                            (int)(glyph.metrics().horiAdvance() >> 6)
-                    )
-            ));
-
-            charX += bitmap.width() + 3;
+            for (final Future<?> future : futures)
+                future.get();
+
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (final PrewarmJob job : jobs) {
+            job.font.upload();
+
+            if (job.fonts.sdf())
+                job.fonts.setSdfBase(job.font);
+            else
+                job.fonts.fonts().put(job.size, job.font);
+        }
+    }
+
+    private Font buildFont(final Fonts fonts, final int fontSize, final long library, final String charCodes) {
+        final var atlas = new GlyphAtlas(fontSize, fonts.filter(), createTexture, updateTexture);
+        final var glyphCache = new GlyphCache(() -> openSharedFace(fonts, fontSize), atlas, fonts.sdf());
+        final Path cacheFile = AtlasCacheFile.path(fonts, fontSize, charCodes);
+        final AtlasCacheFile cached = AtlasCacheFile.read(cacheFile, atlas.pageSize());
+
+        if (cached != null) {
+            atlas.restore(cached.pages(), cached.packers());
+            glyphCache.restore(cached.characters());
+
+            return new Font(glyphCache, fonts.name(), fonts.type(), fontSize, cached.lineHeight(), cached.ascender(),
+                    1.0f, fonts.sdf());
+        }
+
+        final FT_Face face = openFace(library, fonts, fontSize);
+        final int ascender = (int)(face.size().metrics().ascender() >> 6);
+        final int descender = (int)(face.size().metrics().descender() >> 6);
+        final int lineHeight = ascender - descender;
+
+        try {
+            glyphCache.stage(charCodes, face);
+        } finally {
+            FT_Done_Face(face);
         }
 
-        FT_Done_Face(face);
-        bitmapBuffer.flip();
+        AtlasCacheFile.write(cacheFile, lineHeight, ascender, atlas, glyphCache.characters());
 
-        //FreeTypeUtils.savePng(bitmapBuffer, bitmapWidth, bitmapHeight, fonts.name() + " " + fontSize);
+        return new Font(glyphCache, fonts.name(), fonts.type(), fontSize, lineHeight, ascender, 1.0f, fonts.sdf());
+    }
 
-        return new Font(
-                createTexture.call(bitmapBuffer, bitmapWidth, bitmapHeight, fonts.filter()),
-                fonts.name(),
-                fonts.type(),
-                fontSize,
-                lineHeight,
-                ascender,
-                fontCharacters
-        );
+    private synchronized FT_Face openSharedFace(final Fonts fonts, final int fontSize) {
+        return openFace(library, fonts, fontSize);
+    }
+
+    private static FT_Face openFace(final long library, final Fonts fonts, final int fontSize) {
+        final FT_Face face = FreeType.createFace(library, fonts.data());
+
+        FT_Select_Charmap(face, FT_ENCODING_UNICODE);
+        FT_Set_Pixel_Sizes(face, 0, fontSize);
+
+        return face;
+    }
+
+    private void checkEvents() {
+        if (createTexture == null || updateTexture == null)
+            throw new RuntimeException("FontManager.addFont: texture events not defined");
     }
 
     public void setCharCodeList(final String charCodeList) {
@@ -230,13 +313,4 @@ public class FontManager {
         if (this.charCodeList.indexOf(Font.UNKNOWN_CHAR) == -1)
             this.charCodeList += Font.UNKNOWN_CHAR;
     }
-
-    private static ByteBuffer resizeBuffer(final ByteBuffer inputBuffer, final int capacity) {
-        final ByteBuffer tempBuffer = BufferUtils.createByteBuffer(capacity);
-
-        for (int i = 0; i < inputBuffer.capacity(); ++i)
-            tempBuffer.put(inputBuffer.get(i));
-
-        return tempBuffer;
-    }
 }
@@ -24,6 +24,9 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.base.freetype;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,13 +35,22 @@ public class Fonts {
     private final FontType type;
     private final String fileName;
     private final int filter;
+    private final boolean sdf;
     private final Map<Integer, Font> fonts = new HashMap<>();
+    private Font sdfBase;
+    private ByteBuffer data;
+    private byte[] hash;
 
     public Fonts(String family, FontType type, String fileName, int filter) {
+        this(family, type, fileName, filter, false);
+    }
+
+    public Fonts(String family, FontType type, String fileName, int filter, boolean sdf) {
         this.family = family;
         this.type = type;
         this.fileName = fileName;
         this.filter = filter;
+        this.sdf = sdf;
     }
 
     public String name() {
@@ -61,10 +73,44 @@ public class Fonts {
         return filter;
     }
 
+    public boolean sdf() {
+        return sdf;
+    }
+
     public Map<Integer, Font> fonts() {
         return fonts;
     }
 
+    Font sdfBase() {
+        return sdfBase;
+    }
+
+    void setSdfBase(final Font sdfBase) {
+        this.sdfBase = sdfBase;
+    }
+
+    synchronized ByteBuffer data() {
+        if (data == null)
+            data = FreeType.getFontBuffer(fileName);
+
+        return data;
+    }
+
+    synchronized byte[] hash() {
+        if (hash != null)
+            return hash;
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data().duplicate());
+            hash = digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        return hash;
+    }
+
     public static String makeName(final String family, final FontType type) {
         return family + " " + type.name();
     }
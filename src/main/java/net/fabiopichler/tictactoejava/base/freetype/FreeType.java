@@ -48,10 +48,14 @@ public class FreeType {
     }
 
     public static FT_Face createFace(final long library, final String fileName) {
+        return createFace(library, getFontBuffer(fileName));
+    }
+
+    public static FT_Face createFace(final long library, final ByteBuffer fontBuffer) {
         final PointerBuffer faceBuffer = BufferUtils.createPointerBuffer(1);
         int error;
 
-        if ((error = FT_New_Memory_Face(library, getFontBuffer(fileName), 0, faceBuffer)) != 0)
+        if ((error = FT_New_Memory_Face(library, fontBuffer, 0, faceBuffer)) != 0)
             throw new RuntimeException("Failed to load font. Code " + error);
 
         final FT_Face face = FT_Face.createSafe(faceBuffer.get());
@@ -0,0 +1,179 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.freetype;
+
+import net.fabiopichler.tictactoejava.base.utils.SkylinePacker;
+import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+class GlyphAtlas {
+    static final int PADDING = 2;
+    static final int MIN_PAGE_SIZE = 256;
+    static final int MAX_PAGE_SIZE = 2048;
+
+    private static class Page {
+        public final SkylinePacker packer;
+        public ByteBuffer staging;
+        public Object texture;
+
+        public Page(final int size) {
+            this(new SkylinePacker(size, size), BufferUtils.createByteBuffer(size * size));
+        }
+
+        public Page(final SkylinePacker packer, final ByteBuffer staging) {
+            this.packer = packer;
+            this.staging = staging;
+        }
+    }
+
+    private final int pageSize;
+    private final int filter;
+    private final OnCreateTextureEventHandler createTexture;
+    private final OnUpdateTextureEventHandler updateTexture;
+    private final List<Page> pages = new ArrayList<>();
+    private final IntVec2 position = new IntVec2();
+    private ByteBuffer upload;
+
+    GlyphAtlas(final int fontSize, final int filter, final OnCreateTextureEventHandler createTexture,
+               final OnUpdateTextureEventHandler updateTexture) {
+        this.pageSize = pageSize(fontSize);
+        this.filter = filter;
+        this.createTexture = createTexture;
+        this.updateTexture = updateTexture;
+
+        pages.add(new Page(pageSize));
+    }
+
+    void add(final List<GlyphBitmap> glyphs) {
+        final List<GlyphBitmap> sorted = new ArrayList<>(glyphs);
+
+        sorted.sort((a, b) -> a.rows != b.rows ? b.rows - a.rows : b.width - a.width);
+
+        for (final GlyphBitmap glyph : sorted)
+            place(glyph);
+    }
+
+    void flush() {
+        for (final Page page : pages) {
+            if (page.staging == null)
+                continue;
+
+            page.staging.position(0);
+            page.texture = createTexture.call(page.staging, pageSize, pageSize, filter);
+            page.staging = null;
+        }
+    }
+
+    void restore(final List<ByteBuffer> buffers, final List<SkylinePacker> packers) {
+        pages.clear();
+
+        for (int i = 0; i < buffers.size(); ++i)
+            pages.add(new Page(packers.get(i), buffers.get(i)));
+    }
+
+    ByteBuffer staging(final int page) {
+        final ByteBuffer staging = pages.get(page).staging;
+
+        return staging != null ? staging.duplicate().position(0) : null;
+    }
+
+    SkylinePacker packer(final int page) {
+        return pages.get(page).packer;
+    }
+
+    Object texture(final int page) {
+        return pages.get(page).texture;
+    }
+
+    int pageCount() {
+        return pages.size();
+    }
+
+    int pageSize() {
+        return pageSize;
+    }
+
+    void release(final OnDeleteTextureEventHandler deleteTexture) {
+        for (final Page page : pages)
+            if (page.texture != null && deleteTexture != null)
+                deleteTexture.call(page.texture);
+
+        pages.clear();
+    }
+
+    private void place(final GlyphBitmap glyph) {
+        if (glyph.isEmpty())
+            return;
+
+        final int width = glyph.width + PADDING;
+        final int height = glyph.rows + PADDING;
+        int index = 0;
+
+        while (index < pages.size() && !fits(pages.get(index), width, height))
+            ++index;
+
+        if (index == pages.size()) {
+            pages.add(new Page(pageSize));
+
+            if (!pages.get(index).packer.pack(width, height, position))
+                throw new RuntimeException("Glyph larger than the atlas page: " + glyph.width + "x" + glyph.rows);
+        }
+
+        final Page page = pages.get(index);
+
+        glyph.page = index;
+        glyph.x = position.x;
+        glyph.y = position.y;
+
+        if (page.staging != null) {
+            for (int row = 0; row < glyph.rows; ++row) {
+                page.staging.position((glyph.y + row) * pageSize + glyph.x);
+                page.staging.put(glyph.pixels, row * glyph.width, glyph.width);
+            }
+        } else {
+            if (upload == null || upload.capacity() < glyph.pixels.length)
+                upload = BufferUtils.createByteBuffer(Math.max(glyph.pixels.length, 4096));
+
+            upload.clear();
+            upload.put(glyph.pixels).flip();
+
+            updateTexture.call(page.texture, glyph.x, glyph.y, glyph.width, glyph.rows, upload, filter);
+        }
+    }
+
+    private boolean fits(final Page page, final int width, final int height) {
+        return page.packer.pack(width, height, position);
+    }
+
+    private static int pageSize(final int fontSize) {
+        final int size = Math.max(MIN_PAGE_SIZE, Integer.highestOneBit(Math.max(1, fontSize * 16 - 1)) << 1);
+
+        return Math.min(MAX_PAGE_SIZE, size);
+    }
+}
@@ -0,0 +1,95 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.freetype;
+
+import org.lwjgl.util.freetype.FT_Bitmap;
+import org.lwjgl.util.freetype.FT_Face;
+import org.lwjgl.util.freetype.FT_GlyphSlot;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.util.freetype.FreeType.*;
+
+class GlyphBitmap {
+    final char charCode;
+    final int width;
+    final int rows;
+    final int left;
+    final int top;
+    final int advanceX;
+    final int horiAdvance;
+    final byte[] pixels;
+    int x;
+    int y;
+    int page;
+
+    private GlyphBitmap(final char charCode, final FT_GlyphSlot glyph, final FT_Bitmap bitmap) {
+        this.charCode = charCode;
+        this.width = bitmap.width();
+        this.rows = bitmap.rows();
+        this.left = glyph.bitmap_left();
+        this.top = glyph.bitmap_top();
+        this.advanceX = (int)(glyph.advance().x() >> 6);
+        this.horiAdvance = (int)(glyph.metrics().horiAdvance() >> 6);
+        this.pixels = new byte[width * rows];
+
+        final int pitch = bitmap.pitch();
+        final ByteBuffer source = pixels.length > 0 ? bitmap.buffer(Math.abs(pitch) * rows) : null;
+
+        if (source == null)
+            return;
+
+        for (int row = 0; row < rows; ++row) {
+            source.position(pitch >= 0 ? row * pitch : (rows - 1 - row) * -pitch);
+            source.get(pixels, row * width, width);
+        }
+    }
+
+    static GlyphBitmap load(final FT_Face face, final char charCode, final boolean sdf) {
+        final int flags = sdf ? FT_LOAD_NO_HINTING : FT_LOAD_RENDER | FT_LOAD_FORCE_AUTOHINT;
+
+        if (FT_Load_Char(face, charCode, flags) != 0)
+            return null;
+
+        final FT_GlyphSlot glyph = face.glyph();
+
+        if (glyph == null)
+            return null;
+
+        if (sdf && glyph.outline().n_points() > 0 && FT_Render_Glyph(glyph, FT_RENDER_MODE_SDF) != 0)
+            return null;
+
+        return new GlyphBitmap(charCode, glyph, glyph.bitmap());
+    }
+
+    boolean isEmpty() {
+        return width == 0 || rows == 0;
+    }
+
+    FontChar toFontChar() {
+        return new FontChar(charCode, x, y, width, rows, left, top, advanceX, new FontChar.Metrics(horiAdvance),
+                page);
+    }
+}
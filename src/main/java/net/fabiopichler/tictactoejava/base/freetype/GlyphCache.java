@@ -0,0 +1,136 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.freetype;
+
+import org.lwjgl.util.freetype.FT_Face;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.lwjgl.util.freetype.FreeType.*;
+
+class GlyphCache {
+    private final Supplier<FT_Face> faceLoader;
+    private final GlyphAtlas atlas;
+    private final boolean sdf;
+    private final Map<Character, FontChar> characters = new HashMap<>();
+    private FT_Face face;
+
+    GlyphCache(final Supplier<FT_Face> faceLoader, final GlyphAtlas atlas, final boolean sdf) {
+        this.faceLoader = faceLoader;
+        this.atlas = atlas;
+        this.sdf = sdf;
+    }
+
+    synchronized FT_Face face() {
+        if (face == null)
+            face = faceLoader.get();
+
+        return face;
+    }
+
+    synchronized FontChar get(final char charCode) {
+        final FontChar fontChar = characters.get(charCode);
+
+        if (fontChar != null)
+            return fontChar;
+
+        load(String.valueOf(charCode));
+
+        return characters.get(charCode);
+    }
+
+    synchronized void load(final String charCodes) {
+        stage(charCodes);
+        atlas.flush();
+    }
+
+    synchronized void stage(final String charCodes) {
+        stage(charCodes, face());
+    }
+
+    synchronized void stage(final String charCodes, final FT_Face face) {
+        final List<GlyphBitmap> glyphs = new ArrayList<>(charCodes.length());
+        final List<Character> missing = new ArrayList<>();
+
+        for (final char charCode : charCodes.toCharArray()) {
+            if (characters.containsKey(charCode))
+                continue;
+
+            final GlyphBitmap glyph = charCode == Font.UNKNOWN_CHAR || FT_Get_Char_Index(face, charCode) != 0
+                    ? GlyphBitmap.load(face, charCode, sdf)
+                    : null;
+
+            if (glyph != null)
+                glyphs.add(glyph);
+            else
+                missing.add(charCode);
+        }
+
+        atlas.add(glyphs);
+
+        for (final GlyphBitmap glyph : glyphs)
+            characters.put(glyph.charCode, glyph.toFontChar());
+
+        final FontChar unknown = characters.get(Font.UNKNOWN_CHAR);
+
+        if (unknown != null)
+            for (final char charCode : missing)
+                characters.put(charCode, unknown);
+    }
+
+    synchronized void flush() {
+        atlas.flush();
+    }
+
+    synchronized void restore(final Map<Character, FontChar> cached) {
+        characters.putAll(cached);
+    }
+
+    synchronized Map<Character, FontChar> characters() {
+        return new HashMap<>(characters);
+    }
+
+    synchronized Object texture(final int page) {
+        return atlas.texture(page);
+    }
+
+    synchronized int pageCount() {
+        return atlas.pageCount();
+    }
+
+    synchronized void release(final OnDeleteTextureEventHandler deleteTexture) {
+        atlas.release(deleteTexture);
+        characters.clear();
+
+        if (face != null)
+            FT_Done_Face(face);
+
+        face = null;
+    }
+}
@@ -0,0 +1,85 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+
+import java.nio.ByteBuffer;
+
+class AtlasRegion implements IAtlasRegion {
+    final String key;
+    final ByteBuffer pixels;
+    final int bytesPerPixel;
+    final int rmask;
+    AtlasPage page;
+    Texture2D texture;
+    int references = 1;
+    private int x;
+    private int y;
+    private final int width;
+    private final int height;
+
+    AtlasRegion(final String key, final Texture2D texture, final ByteBuffer pixels, final int bytesPerPixel,
+                final int rmask, final int width, final int height) {
+        this.key = key;
+        this.texture = texture;
+        this.pixels = pixels;
+        this.bytesPerPixel = bytesPerPixel;
+        this.rmask = rmask;
+        this.width = width;
+        this.height = height;
+    }
+
+    void setPosition(final int x, final int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public Texture2D texture() {
+        return texture;
+    }
+
+    @Override
+    public int x() {
+        return x;
+    }
+
+    @Override
+    public int y() {
+        return y;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+}
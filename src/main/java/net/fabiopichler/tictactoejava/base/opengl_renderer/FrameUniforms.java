@@ -0,0 +1,93 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+
+import static org.lwjgl.opengl.GL33C.*;
+
+public class FrameUniforms {
+    static final String BLOCK_NAME = "Frame";
+    static final int BINDING = 0;
+
+    private static final int FLOATS = 16 + 4;
+
+    private final FloatBuffer data = BufferUtils.createFloatBuffer(FLOATS);
+    private final Matrix4f projection = new Matrix4f();
+    private final Matrix4f view = new Matrix4f();
+    private float viewX;
+    private float viewY;
+    private float viewWidth;
+    private float viewHeight;
+    private int buffer;
+
+    public void init() {
+        buffer = glGenBuffers();
+
+        glBindBuffer(GL_UNIFORM_BUFFER, buffer);
+        glBufferData(GL_UNIFORM_BUFFER, (long) FLOATS * Float.BYTES, GL_DYNAMIC_DRAW);
+        glBindBuffer(GL_UNIFORM_BUFFER, 0);
+
+        glBindBufferBase(GL_UNIFORM_BUFFER, BINDING, buffer);
+    }
+
+    public void release() {
+        glDeleteBuffers(buffer);
+    }
+
+    public void setLogicalSize(final float width, final float height) {
+        setView(0.0f, 0.0f, width, height);
+    }
+
+    public void setView(final float x, final float y, final float width, final float height) {
+        if (x == viewX && y == viewY && width == viewWidth && height == viewHeight)
+            return;
+
+        viewX = x;
+        viewY = y;
+        viewWidth = width;
+        viewHeight = height;
+
+        projection.setOrtho(x, x + width, y + height, y, -1.0f, 1.0f);
+        view.setLookAt(
+                0.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, 0.0f,
+                0.0f, 1.0f, 0.0f);
+
+        view.mul(projection).get(0, data);
+
+        data.put(16, width);
+        data.put(17, height);
+        data.put(18, 1.0f / width);
+        data.put(19, 1.0f / height);
+
+        glBindBuffer(GL_UNIFORM_BUFFER, buffer);
+        glBufferSubData(GL_UNIFORM_BUFFER, 0, data);
+        glBindBuffer(GL_UNIFORM_BUFFER, 0);
+    }
+}
@@ -0,0 +1,256 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL33C.*;
+
+public class GLState {
+    private static final int MAX_TEXTURE_UNITS = 16;
+    private static final int MAX_ATTRIBUTES = 16;
+
+    private static class VertexArrayState {
+        public int enabled;
+        public final int[] buffers = new int[MAX_ATTRIBUTES];
+        public final long[] formats = new long[MAX_ATTRIBUTES];
+        public final long[] pointers = new long[MAX_ATTRIBUTES];
+        public final int[] divisors = new int[MAX_ATTRIBUTES];
+    }
+
+    private final Map<Integer, VertexArrayState> vertexArrays = new HashMap<>();
+    private final int[] textures = new int[MAX_TEXTURE_UNITS];
+    private VertexArrayState vertexArrayState;
+    private int program;
+    private int vertexArray;
+    private int arrayBuffer;
+    private int activeTexture;
+    private boolean blend;
+    private int blendSrcRGB = GL_ONE;
+    private int blendDstRGB = GL_ZERO;
+    private int blendSrcAlpha = GL_ONE;
+    private int blendDstAlpha = GL_ZERO;
+    private long issuedCalls;
+    private long skippedCalls;
+
+    public GLState() {
+        vertexArrayState = vertexArrayState(0);
+    }
+
+    public void useProgram(final int program) {
+        if (this.program == program) {
+            ++skippedCalls;
+            return;
+        }
+
+        glUseProgram(program);
+        this.program = program;
+        ++issuedCalls;
+    }
+
+    public void bindVertexArray(final int vertexArray) {
+        if (this.vertexArray == vertexArray) {
+            ++skippedCalls;
+            return;
+        }
+
+        glBindVertexArray(vertexArray);
+        this.vertexArray = vertexArray;
+        vertexArrayState = vertexArrayState(vertexArray);
+        ++issuedCalls;
+    }
+
+    public void bindArrayBuffer(final int buffer) {
+        if (arrayBuffer == buffer) {
+            ++skippedCalls;
+            return;
+        }
+
+        glBindBuffer(GL_ARRAY_BUFFER, buffer);
+        arrayBuffer = buffer;
+        ++issuedCalls;
+    }
+
+    public void bindTexture(final int unit, final int texture) {
+        if (textures[unit] == texture) {
+            ++skippedCalls;
+            return;
+        }
+
+        activeTexture(unit);
+        glBindTexture(GL_TEXTURE_2D, texture);
+        textures[unit] = texture;
+        ++issuedCalls;
+    }
+
+    public void enableVertexAttribArray(final int index) {
+        if ((vertexArrayState.enabled & (1 << index)) != 0) {
+            ++skippedCalls;
+            return;
+        }
+
+        glEnableVertexAttribArray(index);
+        vertexArrayState.enabled |= 1 << index;
+        ++issuedCalls;
+    }
+
+    public void disableVertexAttribArray(final int index) {
+        if ((vertexArrayState.enabled & (1 << index)) == 0) {
+            ++skippedCalls;
+            return;
+        }
+
+        glDisableVertexAttribArray(index);
+        vertexArrayState.enabled &= ~(1 << index);
+        ++issuedCalls;
+    }
+
+    public void vertexAttribPointer(final int index, final int size, final int type,
+                                    final boolean normalized, final int stride, final long pointer) {
+        final long format = ((long) type << 32) | ((long) stride << 8) | (size << 1) | (normalized ? 1 : 0);
+
+        if (vertexArrayState.buffers[index] == arrayBuffer
+                && vertexArrayState.formats[index] == format
+                && vertexArrayState.pointers[index] == pointer) {
+            ++skippedCalls;
+            return;
+        }
+
+        glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        vertexArrayState.buffers[index] = arrayBuffer;
+        vertexArrayState.formats[index] = format;
+        vertexArrayState.pointers[index] = pointer;
+        ++issuedCalls;
+    }
+
+    public void vertexAttribDivisor(final int index, final int divisor) {
+        if (vertexArrayState.divisors[index] == divisor) {
+            ++skippedCalls;
+            return;
+        }
+
+        glVertexAttribDivisor(index, divisor);
+        vertexArrayState.divisors[index] = divisor;
+        ++issuedCalls;
+    }
+
+    public void setBlend(final boolean enabled) {
+        if (blend == enabled) {
+            ++skippedCalls;
+            return;
+        }
+
+        if (enabled)
+            glEnable(GL_BLEND);
+        else
+            glDisable(GL_BLEND);
+
+        blend = enabled;
+        ++issuedCalls;
+    }
+
+    public void blendFunc(final int src, final int dst) {
+        blendFuncSeparate(src, dst, src, dst);
+    }
+
+    public void blendFuncSeparate(final int srcRGB, final int dstRGB, final int srcAlpha, final int dstAlpha) {
+        if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+            ++skippedCalls;
+            return;
+        }
+
+        glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+        blendSrcRGB = srcRGB;
+        blendDstRGB = dstRGB;
+        blendSrcAlpha = srcAlpha;
+        blendDstAlpha = dstAlpha;
+        ++issuedCalls;
+    }
+
+    public void deleteProgram(final int program) {
+        glDeleteProgram(program);
+
+        if (this.program == program)
+            this.program = 0;
+    }
+
+    public void deleteVertexArray(final int vertexArray) {
+        glDeleteVertexArrays(vertexArray);
+        vertexArrays.remove(vertexArray);
+
+        if (this.vertexArray == vertexArray) {
+            this.vertexArray = 0;
+            vertexArrayState = vertexArrayState(0);
+        }
+    }
+
+    public void deleteBuffer(final int buffer) {
+        glDeleteBuffers(buffer);
+
+        if (arrayBuffer == buffer)
+            arrayBuffer = 0;
+
+        for (final VertexArrayState state : vertexArrays.values())
+            for (int i = 0; i < MAX_ATTRIBUTES; ++i)
+                if (state.buffers[i] == buffer)
+                    state.buffers[i] = 0;
+    }
+
+    public void deleteTexture(final int texture) {
+        glDeleteTextures(texture);
+
+        for (int unit = 0; unit < MAX_TEXTURE_UNITS; ++unit)
+            if (textures[unit] == texture)
+                textures[unit] = 0;
+    }
+
+    public long issuedCalls() {
+        return issuedCalls;
+    }
+
+    public long skippedCalls() {
+        return skippedCalls;
+    }
+
+    public void resetCounters() {
+        issuedCalls = 0;
+        skippedCalls = 0;
+    }
+
+    private void activeTexture(final int unit) {
+        if (activeTexture == unit)
+            return;
+
+        glActiveTexture(GL_TEXTURE0 + unit);
+        activeTexture = unit;
+        ++issuedCalls;
+    }
+
+    private VertexArrayState vertexArrayState(final int vertexArray) {
+        return vertexArrays.computeIfAbsent(vertexArray, key -> new VertexArrayState());
+    }
+}
@@ -0,0 +1,78 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import static org.lwjgl.opengl.GL33C.*;
+
+public class GpuTimer {
+    private static final int QUERY_COUNT = 4;
+
+    private final int[] queries = new int[QUERY_COUNT];
+    private int first;
+    private int pending;
+    private boolean running;
+
+    public void init() {
+        glGenQueries(queries);
+    }
+
+    public void release() {
+        glDeleteQueries(queries);
+    }
+
+    public void begin() {
+        if (running || pending == QUERY_COUNT)
+            return;
+
+        glBeginQuery(GL_TIME_ELAPSED, queries[(first + pending) % QUERY_COUNT]);
+        running = true;
+    }
+
+    public void end() {
+        if (!running)
+            return;
+
+        glEndQuery(GL_TIME_ELAPSED);
+        running = false;
+        ++pending;
+    }
+
+    public long poll() {
+        if (pending == 0)
+            return -1;
+
+        final int query = queries[first];
+
+        if (glGetQueryObjecti(query, GL_QUERY_RESULT_AVAILABLE) == GL_FALSE)
+            return -1;
+
+        final long elapsed = glGetQueryObjectui64(query, GL_QUERY_RESULT);
+
+        first = (first + 1) % QUERY_COUNT;
+        --pending;
+
+        return elapsed;
+    }
+}
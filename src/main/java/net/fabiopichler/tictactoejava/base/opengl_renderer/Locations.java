@@ -29,8 +29,10 @@ public class Locations {
     public int aPosition;
     public int aUV;
     public int aColor;
-    public int uProjection;
     public int uSampler;
-    public int uSourcePosition;
-    public int uTransform;
+    public int uOffset;
+    public int uTextureScale;
+    public int uColors;
+    public int uSdf;
+    public int uOutlineColor;
 }
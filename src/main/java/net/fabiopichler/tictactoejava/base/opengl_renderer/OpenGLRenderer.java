@@ -25,188 +25,264 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.base.opengl_renderer;
 
 import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 import net.fabiopichler.tictactoejava.base.TextureFilter;
-import net.fabiopichler.tictactoejava.base.freetype.FontChar;
-import net.fabiopichler.tictactoejava.base.freetype.DrawableChar;
 import net.fabiopichler.tictactoejava.base.freetype.DrawableText;
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.ILayerTarget;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
 import net.fabiopichler.tictactoejava.base.vectors.*;
 
-import org.joml.Matrix4f;
-import org.lwjgl.*;
 import org.lwjgl.opengl.*;
 
 import java.io.IOException;
-import java.nio.*;
 
 import static org.lwjgl.opengl.GL33C.*;
 
-public class OpenGLRenderer {
+public class OpenGLRenderer implements IRenderer {
+    private static final String LEGACY_PROPERTY = "tictactoe.gl.legacy";
+
+    private final GLState glState = new GLState();
+    private final GpuTimer gpuTimer = new GpuTimer();
     private final Programs programs;
-    private final Buffers buffers;
+    private final SpriteBatch spriteBatch;
+    private final TextRenderer textRenderer;
     private final Textures textures;
+    private final boolean directStateAccess;
+    private final FrameUniforms frameUniforms = new FrameUniforms();
     private final Vec2 viewportSize = new Vec2(640, 480);
     private final Vec2 logicalSize = new Vec2(640, 480);
-    private final FloatBuffer matrixBuffer = BufferUtils.createFloatBuffer(16);
-    private final FloatBuffer colorsBuffer = BufferUtils.createFloatBuffer(4 * 4);
-    private final Matrix4f matrix = new Matrix4f();
+    private final IntRect viewport = new IntRect(0, 0, 640, 480);
+    private final Color layerColor = new Color(255, 255, 255);
+    private boolean dirty = true;
 
     public OpenGLRenderer() {
-        for (int i = 0; i < colorsBuffer.capacity(); ++i)
-            colorsBuffer.put(0.0f);
-
-        colorsBuffer.flip();
-
         final GLCapabilities glCaps = GL.createCapabilities();
-        programs = new Programs();
-        buffers = new Buffers(glCaps);
-        textures = new Textures(glCaps);
+        directStateAccess = PersistentStreamBuffer.isSupported(glCaps) && !Boolean.getBoolean(LEGACY_PROPERTY);
+        programs = new Programs(glState);
+        spriteBatch = new SpriteBatch(glCaps, programs, glState, directStateAccess);
+        textRenderer = new TextRenderer(glCaps, programs, glState, directStateAccess);
+        textures = new Textures(glCaps, spriteBatch, glState);
 
         initGL();
     }
 
+    @Override
     public void release() {
-        buffers.release();
+        spriteBatch.release();
+        textRenderer.release();
         programs.release();
         textures.release();
+        frameUniforms.release();
+        gpuTimer.release();
     }
 
     private void initGL() {
         System.out.println("Game renderer: OpenGL");
         System.out.println("GL renderer: " + glGetString(GL_RENDERER));
         System.out.println("GL version: " + glGetString(GL_VERSION));
+        System.out.println("GL buffers: " + (directStateAccess ? "persistent mapped, DSA" : "orphaned, bind-to-edit"));
 
-        glEnable(GL_BLEND);
-        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        glState.setBlend(true);
+        glState.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
         glEnable(GL_CULL_FACE);
         glCullFace(GL_BACK);
         glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
 
-        buffers.init();
+        spriteBatch.init();
+        textRenderer.init();
         textures.init();
+        frameUniforms.init();
+        gpuTimer.init();
+        frameUniforms.setLogicalSize(logicalSize.x, logicalSize.y);
 
         for (final ProgramType value : ProgramType.values()) {
             try {
-                updateProjection(programs.initProgram(value).uProjection);
+                programs.initProgram(value);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
     }
 
+    @Override
     public Texture2D createTexture(final ImageData image, final TextureFilter filter) {
         return textures.createTexture(image, filter);
     }
 
+    @Override
     public void destroyTexture(final Texture2D texture) {
         textures.destroyTexture(texture);
     }
 
-    public void clear() {
-        glClear(GL_COLOR_BUFFER_BIT);
+    @Override
+    public IAtlasRegion acquireImage(final String key, final TextureFilter filter) {
+        return textures.acquireImage(key, filter);
     }
 
-    public void draw(final Texture2D texture,
-                     final IntRect srcrect, final Rect dstrect, final double angle, final Color color) {
-        if (texture == null)
-            return;
-
-        final Locations program = programs.getProgram(ProgramType.Texture);
+    @Override
+    public IAtlasRegion createImage(final String key, final ImageData image, final TextureFilter filter) {
+        return textures.createImage(key, image, filter);
+    }
 
-        glActiveTexture(GL_TEXTURE0);
-        glBindTexture(GL_TEXTURE_2D, texture.id());
+    @Override
+    public void releaseImage(final IAtlasRegion region) {
+        textures.releaseImage((AtlasRegion) region);
+    }
 
-        if (srcrect != null) {
-            glUniform4f(program.uSourcePosition,
-                    srcrect.x / texture.width(), srcrect.y / texture.height(),
-                    srcrect.w / texture.width(), srcrect.h / texture.height());
-        }
+    @Override
+    public ILayerTarget createLayerTarget(final int width, final int height) {
+        final Texture2D texture = textures.createRenderTexture(width, height);
+        final int framebuffer = glGenFramebuffers();
 
-        matrix.identity();
+        glBindFramebuffer(GL_FRAMEBUFFER, framebuffer);
+        glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, texture.id(), 0);
 
-        if (angle == 0.0) {
-            matrix.translate(dstrect.x, dstrect.y, 0);
-        } else {
-            final float center_x = dstrect.w / 2.0f;
-            final float center_y = dstrect.h / 2.0f;
+        final int status = glCheckFramebufferStatus(GL_FRAMEBUFFER);
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
 
-            matrix.translate(dstrect.x + center_x, dstrect.y + center_y, 0.0f);
-            matrix.rotate((float)Math.toRadians(angle),0, 0, 1);
-            matrix.translate(-center_x, -center_y, 0.0f);
+        if (status != GL_FRAMEBUFFER_COMPLETE) {
+            glDeleteFramebuffers(framebuffer);
+            textures.destroyTexture(texture);
+            throw new RuntimeException("Incomplete layer framebuffer: " + status);
         }
 
-        matrix.scale(dstrect.w, dstrect.h, 0);
-
-        glUniformMatrix4fv(program.uTransform, false, matrix.get(matrixBuffer));
-        glUniform1i(program.uSampler, 0);
+        return new LayerTarget(framebuffer, texture);
+    }
 
-        buffers.enablePositionVBO(program);
-        buffers.enableColorVBO(program, colorToBuffer(color));
+    @Override
+    public void destroyLayerTarget(final ILayerTarget target) {
+        if (target == null)
+            return;
 
-        buffers.drawElements();
+        spriteBatch.flush();
+        glDeleteFramebuffers(((LayerTarget) target).framebuffer());
+        textures.destroyTexture(target.texture());
+    }
 
-        buffers.disableColorVBO(program);
-        buffers.disablePositionVBO(program);
+    @Override
+    public float pixelScale() {
+        return viewport.w / logicalSize.x;
     }
 
-    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars) {
-        final Locations program = programs.getProgram(ProgramType.Font);
-        final Texture2D texture = (Texture2D) text.font().texture();
+    @Override
+    public void beginLayer(final ILayerTarget target, final Rect rect) {
+        spriteBatch.flush();
+
+        glBindFramebuffer(GL_FRAMEBUFFER, ((LayerTarget) target).framebuffer());
+        glViewport(0, 0, target.width(), target.height());
+        glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+        glClear(GL_COLOR_BUFFER_BIT);
+        glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
+
+        glState.blendFuncSeparate(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA, GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
+        frameUniforms.setView(rect.x, rect.y, rect.w, rect.h);
+    }
 
-        buffers.enablePositionVBO(program);
-        buffers.enableColorVBO(program, colorToBuffer(color));
+    @Override
+    public void endLayer() {
+        spriteBatch.flush();
 
-        glActiveTexture(GL_TEXTURE0);
-        glBindTexture(GL_TEXTURE_2D, texture.id());
-        glUniform1i(program.uSampler, 0);
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+        glViewport(viewport.x, viewport.y, viewport.w, viewport.h);
 
-        int charIndex = 0;
+        glState.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        frameUniforms.setLogicalSize(logicalSize.x, logicalSize.y);
+    }
 
-        for (final DrawableChar drawableChar : text.characters()) {
-            if (visibleChars > -1 && charIndex >= visibleChars)
-                break;
+    @Override
+    public void drawLayer(final ILayerTarget target, final Rect rect) {
+        spriteBatch.flush();
+        glState.blendFunc(GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
 
-            final FontChar fontChar = drawableChar.fontChar();
+        spriteBatch.begin(ProgramType.Texture, target.texture());
+        spriteBatch.addQuad(rect.x, rect.y, rect.w, rect.h, 0.0, 0.0f, 1.0f, 1.0f, -1.0f, layerColor);
+        spriteBatch.flush();
 
-            glUniform4f(program.uSourcePosition,
-                    fontChar.x() / texture.width(), fontChar.y() / texture.height(),
-                    fontChar.width() / texture.width(), fontChar.height() / texture.height());
+        glState.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+    }
 
-            matrix.identity();
-            matrix.translate(x + drawableChar.x(), y + drawableChar.y(), 0);
-            matrix.scale(drawableChar.width(), drawableChar.height(), 0);
+    @Override
+    public void clear() {
+        glClear(GL_COLOR_BUFFER_BIT);
+    }
 
-            glUniformMatrix4fv(program.uTransform, false, matrix.get(matrixBuffer));
+    @Override
+    public void draw(final Texture2D texture,
+                     final IntRect srcrect, final Rect dstrect, final double angle, final Color color) {
+        if (texture == null)
+            return;
 
-            buffers.drawElements();
+        spriteBatch.begin(ProgramType.Texture, texture);
 
-            ++charIndex;
+        if (srcrect != null) {
+            spriteBatch.addQuad(dstrect.x, dstrect.y, dstrect.w, dstrect.h, angle,
+                    srcrect.x / texture.width(), srcrect.y / texture.height(),
+                    srcrect.w / texture.width(), srcrect.h / texture.height(), color);
+        } else {
+            spriteBatch.addQuad(dstrect.x, dstrect.y, dstrect.w, dstrect.h, angle, 0.0f, 0.0f, 1.0f, 1.0f, color);
         }
+    }
+
+    @Override
+    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars) {
+        draw(text, x, y, color, visibleChars, null, 0.0f);
+    }
 
-        buffers.disableColorVBO(program);
-        buffers.disablePositionVBO(program);
+    @Override
+    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars,
+                     final Color outlineColor, final float outlineWidth) {
+        spriteBatch.flush();
+        textRenderer.draw(text, x, y, color, visibleChars, outlineColor, outlineWidth);
     }
 
+    @Override
+    public void releaseText(final DrawableText text) {
+        textRenderer.releaseText(text);
+    }
+
+    @Override
     public void drawRect(final Rect rect, final Color color) {
-        final Locations program = programs.getProgram(ProgramType.Color);
+        spriteBatch.begin(ProgramType.Color, null);
+        spriteBatch.addQuad(rect.x, rect.y, rect.w, rect.h, 0.0, 0.0f, 0.0f, 1.0f, 1.0f, color);
+    }
 
-        matrix.identity();
-        matrix.translate(rect.x, rect.y, 0);
-        matrix.scale(rect.w, rect.h, 0);
+    @Override
+    public void flush() {
+        spriteBatch.flush();
+    }
 
-        glUniformMatrix4fv(program.uTransform, false, matrix.get(matrixBuffer));
+    public GLState glState() {
+        return glState;
+    }
 
-        buffers.enablePositionVBO(program);
-        buffers.enableColorVBO(program, colorToBuffer(color));
+    public GpuTimer gpuTimer() {
+        return gpuTimer;
+    }
 
-        buffers.drawElements();
+    @Override
+    public void invalidate() {
+        dirty = true;
+    }
 
-        buffers.disableColorVBO(program);
-        buffers.disablePositionVBO(program);
+    @Override
+    public boolean isDirty() {
+        return dirty;
     }
 
+    @Override
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    @Override
     public void setViewportSize(final int w, final int h) {
+        spriteBatch.flush();
+
         viewportSize.x = w;
         viewportSize.y = h;
+        dirty = true;
 
         int new_x, new_y, new_w, new_h;
         final float want_aspect = logicalSize.x / logicalSize.y;
@@ -226,48 +302,22 @@ public class OpenGLRenderer {
             new_x = ((int) viewportSize.x - new_w) / 2;
         }
 
+        viewport.x = new_x;
+        viewport.y = new_y;
+        viewport.w = new_w;
+        viewport.h = new_h;
+
         glViewport(new_x, new_y, new_w, new_h);
     }
 
+    @Override
     public void setLogicalSize(final int w, final int h) {
+        spriteBatch.flush();
+
         logicalSize.x = w;
         logicalSize.y = h;
+        dirty = true;
 
-        for (final ProgramType value : ProgramType.values())
-            updateProjection(programs.getProgram(value).uProjection);
-    }
-
-    public void updateProjection(final int uProjection) {
-        final var proj = new Matrix4f();
-        final var view = new Matrix4f();
-        final var model = new Matrix4f();
-
-        proj.setOrtho(0.0f, logicalSize.x, logicalSize.y, 0.0f, -1.0f, 1.0f);
-        view.setLookAt(
-                0.0f, 0.0f, 1.0f,
-                0.0f, 0.0f, 0.0f,
-                0.0f, 1.0f, 0.0f);
-
-        Matrix4f mvp = model.mul(view.mul(proj));
-
-        glUniformMatrix4fv(uProjection, false, mvp.get(matrixBuffer));
-    }
-
-    private FloatBuffer colorToBuffer(final Color color) {
-        final Color.Data colors = color.colors();
-
-        colorsBuffer.put(0, colors.bottomLeft.r()).put(1, colors.bottomLeft.g())
-                .put(2, colors.bottomLeft.b()).put(3, colors.bottomLeft.a());
-
-        colorsBuffer.put(4, colors.bottomRight.r()).put(5, colors.bottomRight.g())
-                .put(6, colors.bottomRight.b()).put(7, colors.bottomRight.a());
-
-        colorsBuffer.put(8, colors.topRight.r()).put(9, colors.topRight.g())
-                .put(10, colors.topRight.b()).put(11, colors.topRight.a());
-
-        colorsBuffer.put(12, colors.topLeft.r()).put(13, colors.topLeft.g())
-                .put(14, colors.topLeft.b()).put(15, colors.topLeft.a());
-
-        return colorsBuffer;
+        frameUniforms.setLogicalSize(w, h);
     }
 }
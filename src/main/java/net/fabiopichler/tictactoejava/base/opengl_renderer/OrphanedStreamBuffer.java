@@ -0,0 +1,79 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+
+import static org.lwjgl.opengl.GL33C.*;
+
+public class OrphanedStreamBuffer implements IStreamBuffer {
+    private final GLState glState;
+    private final FloatBuffer vertices;
+    private final int buffer;
+
+    public OrphanedStreamBuffer(final GLState glState, final int capacity) {
+        this.glState = glState;
+        this.vertices = BufferUtils.createFloatBuffer(capacity / Float.BYTES);
+        this.buffer = glGenBuffers();
+
+        glState.bindArrayBuffer(buffer);
+        glBufferData(GL_ARRAY_BUFFER, capacity, GL_STREAM_DRAW);
+    }
+
+    @Override
+    public int buffer() {
+        return buffer;
+    }
+
+    @Override
+    public FloatBuffer reserve(final int bytes) {
+        vertices.clear();
+        vertices.limit(bytes / Float.BYTES);
+
+        return vertices;
+    }
+
+    @Override
+    public int commit(final int bytes) {
+        vertices.position(0).limit(bytes / Float.BYTES);
+
+        glState.bindArrayBuffer(buffer);
+        glBufferData(GL_ARRAY_BUFFER, (long) vertices.capacity() * Float.BYTES, GL_STREAM_DRAW);
+        glBufferSubData(GL_ARRAY_BUFFER, 0, vertices);
+
+        return 0;
+    }
+
+    @Override
+    public void fence() {
+    }
+
+    @Override
+    public void release() {
+        glState.deleteBuffer(buffer);
+    }
+}
@@ -0,0 +1,148 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayDeque;
+
+import static org.lwjgl.opengl.GL45C.*;
+
+public class PersistentStreamBuffer implements IStreamBuffer {
+    private static final int MAP_FLAGS = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+    private static final long WAIT_TIMEOUT = 1_000_000L;
+
+    private static class Fence {
+        public final long sync;
+        public final long end;
+
+        public Fence(final long sync, final long end) {
+            this.sync = sync;
+            this.end = end;
+        }
+    }
+
+    private final int capacity;
+    private final int alignment;
+    private final int buffer;
+    private final ByteBuffer mapping;
+    private final ArrayDeque<Fence> fences = new ArrayDeque<>();
+    private long head;
+    private long reserved;
+    private long completed;
+
+    public PersistentStreamBuffer(final int capacity, final int alignment) {
+        this.capacity = capacity - capacity % alignment;
+        this.alignment = alignment;
+        this.buffer = glCreateBuffers();
+
+        glNamedBufferStorage(buffer, this.capacity, MAP_FLAGS);
+
+        final ByteBuffer mapped = glMapNamedBufferRange(buffer, 0, this.capacity, MAP_FLAGS);
+
+        if (mapped == null)
+            throw new RuntimeException("Could not map stream buffer");
+
+        mapping = mapped.order(ByteOrder.nativeOrder());
+    }
+
+    public static boolean isSupported(final GLCapabilities glCaps) {
+        return glCaps.OpenGL45 || (glCaps.GL_ARB_buffer_storage && glCaps.GL_ARB_direct_state_access);
+    }
+
+    @Override
+    public int buffer() {
+        return buffer;
+    }
+
+    @Override
+    public FloatBuffer reserve(final int bytes) {
+        if (bytes > capacity)
+            throw new IllegalArgumentException("Reservation larger than the stream buffer");
+
+        long start = head;
+        final int offset = (int) (start % capacity);
+
+        if (offset + bytes > capacity)
+            start += capacity - offset;
+
+        waitUntil(start + bytes - capacity);
+        reserved = start;
+
+        final int position = (int) (start % capacity);
+
+        return mapping.duplicate()
+                .position(position)
+                .limit(position + bytes)
+                .slice()
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+    }
+
+    @Override
+    public int commit(final int bytes) {
+        final int aligned = (bytes + alignment - 1) / alignment * alignment;
+
+        head = reserved + aligned;
+
+        return (int) (reserved % capacity);
+    }
+
+    @Override
+    public void fence() {
+        fences.add(new Fence(glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0), head));
+    }
+
+    @Override
+    public void release() {
+        for (final Fence fence : fences)
+            glDeleteSync(fence.sync);
+
+        fences.clear();
+
+        glUnmapNamedBuffer(buffer);
+        glDeleteBuffers(buffer);
+    }
+
+    private void waitUntil(final long position) {
+        while (completed < position && !fences.isEmpty()) {
+            final Fence fence = fences.poll();
+            int status = glClientWaitSync(fence.sync, 0, 0L);
+
+            while (status == GL_TIMEOUT_EXPIRED)
+                status = glClientWaitSync(fence.sync, GL_SYNC_FLUSH_COMMANDS_BIT, WAIT_TIMEOUT);
+
+            glDeleteSync(fence.sync);
+
+            if (status == GL_WAIT_FAILED)
+                throw new RuntimeException("Stream buffer fence wait failed");
+
+            completed = fence.end;
+        }
+    }
+}
@@ -34,12 +34,22 @@ import java.nio.*;
 import static org.lwjgl.opengl.GL33C.*;
 
 public class Programs {
+    static final int POSITION_ATTRIBUTE = 0;
+    static final int UV_ATTRIBUTE = 1;
+    static final int COLOR_ATTRIBUTE = 2;
+    static final int RECT_ATTRIBUTE = 3;
+    static final int SOURCE_ATTRIBUTE = 4;
+
     private final Locations[] programs = new Locations[ProgramType.size];
-    private int lastProgram;
+    private final GLState glState;
+
+    public Programs(final GLState glState) {
+        this.glState = glState;
+    }
 
     public void release() {
         for (int i = 0; i < ProgramType.size; ++i)
-            glDeleteProgram(programs[i].program);
+            glState.deleteProgram(programs[i].program);
     }
 
     public Locations initProgram(final ProgramType type) throws IOException, AssertionError {
@@ -50,15 +60,18 @@ public class Programs {
         locations.aPosition = glGetAttribLocation(program, "aPosition");
         locations.aUV = -1;
         locations.aColor = glGetAttribLocation(program, "aColor");
-        locations.uProjection = glGetUniformLocation(program, "uProjection");
         locations.uSampler = -1;
-        locations.uSourcePosition = -1;
-        locations.uTransform = glGetUniformLocation(program, "uTransform");
+        locations.uOffset = glGetUniformLocation(program, "uOffset");
+        locations.uTextureScale = glGetUniformLocation(program, "uTextureScale");
+        locations.uColors = glGetUniformLocation(program, "uColors");
+        locations.uSdf = glGetUniformLocation(program, "uSdf");
+        locations.uOutlineColor = glGetUniformLocation(program, "uOutlineColor");
 
         if (type == ProgramType.Texture || type == ProgramType.Font) {
             locations.aUV = glGetAttribLocation(program, "aUV");
-            locations.uSourcePosition = glGetUniformLocation(program, "uSourcePosition");
             locations.uSampler = glGetUniformLocation(program, "uSampler");
+
+            glUniform1i(locations.uSampler, 0);
         }
 
         return programs[type.ordinal()] = locations;
@@ -67,10 +80,7 @@ public class Programs {
     public Locations getProgram(final ProgramType type) {
         final Locations program = programs[type.ordinal()];
 
-        if (program.program != lastProgram) {
-            glUseProgram(program.program);
-            lastProgram = program.program;
-        }
+        glState.useProgram(program.program);
 
         return program;
     }
@@ -84,9 +94,17 @@ public class Programs {
         compileShader(program, GL_VERTEX_SHADER, vert);
         compileShader(program, GL_FRAGMENT_SHADER, frag);
 
+        glBindAttribLocation(program, POSITION_ATTRIBUTE, "aPosition");
+        glBindAttribLocation(program, UV_ATTRIBUTE, "aUV");
+        glBindAttribLocation(program, COLOR_ATTRIBUTE, "aColor");
+        glBindAttribLocation(program, RECT_ATTRIBUTE, "aRect");
+        glBindAttribLocation(program, SOURCE_ATTRIBUTE, "aSource");
+
         glLinkProgram(program);
         checkProgram(program);
-        glUseProgram(program);
+
+        glUniformBlockBinding(program, glGetUniformBlockIndex(program, FrameUniforms.BLOCK_NAME), FrameUniforms.BINDING);
+        glState.useProgram(program);
 
         return program;
     }
@@ -136,7 +154,7 @@ public class Programs {
     }
 
     private String getShaderSource(final ProgramType type, final String source) {
-        String src = "#version 100\n"; // OpenGL ES 2.0 / WebGL 1.0
+        String src = "#version 330 core\n";
 
         if (type == ProgramType.Texture || type == ProgramType.Font)
             src += "#define hasTexture 1\n";
@@ -148,6 +166,11 @@ public class Programs {
         else
             src += "#define hasFont 0\n";
 
+        if (type == ProgramType.Font)
+            src += "#define hasInstances 1\n";
+        else
+            src += "#define hasInstances 0\n";
+
         return src + source;
     }
 
@@ -0,0 +1,228 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+
+import org.lwjgl.*;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.*;
+
+import static org.lwjgl.opengl.GL45C.*;
+
+public class SpriteBatch {
+    static final int MAX_QUADS = 4096;
+    static final int FLOATS_PER_VERTEX = 8;
+    static final int VERTEX_BYTES = FLOATS_PER_VERTEX * Float.BYTES;
+    static final int BATCH_BYTES = MAX_QUADS * 4 * VERTEX_BYTES;
+
+    private static final int STREAM_BATCHES = 8;
+
+    private final GLCapabilities glCaps;
+    private final Programs programs;
+    private final GLState glState;
+    private final boolean directStateAccess;
+    private IStreamBuffer stream;
+    private FloatBuffer vertices;
+    private ProgramType programType;
+    private Texture2D texture;
+    private int vao;
+    private int elementBuffer;
+    private int quadCount;
+
+    public SpriteBatch(final GLCapabilities glCaps, final Programs programs, final GLState glState,
+                       final boolean directStateAccess) {
+        this.glCaps = glCaps;
+        this.programs = programs;
+        this.glState = glState;
+        this.directStateAccess = directStateAccess;
+    }
+
+    public void release() {
+        stream.release();
+        glState.deleteBuffer(elementBuffer);
+
+        if (glCaps.OpenGL30)
+            glState.deleteVertexArray(vao);
+    }
+
+    public void init() {
+        final ShortBuffer indices = BufferUtils.createShortBuffer(MAX_QUADS * 6);
+
+        for (int quad = 0; quad < MAX_QUADS; ++quad) {
+            final int first = quad * 4;
+
+            indices.put((short) first).put((short) (first + 1)).put((short) (first + 2));
+            indices.put((short) first).put((short) (first + 2)).put((short) (first + 3));
+        }
+
+        indices.flip();
+
+        if (directStateAccess)
+            initDirectStateAccess(indices);
+        else
+            initBindToEdit(indices);
+    }
+
+    private void initDirectStateAccess(final ShortBuffer indices) {
+        stream = new PersistentStreamBuffer(BATCH_BYTES * STREAM_BATCHES, VERTEX_BYTES);
+
+        elementBuffer = glCreateBuffers();
+        glNamedBufferStorage(elementBuffer, indices, 0);
+
+        vao = glCreateVertexArrays();
+        glVertexArrayElementBuffer(vao, elementBuffer);
+        glVertexArrayVertexBuffer(vao, 0, stream.buffer(), 0L, VERTEX_BYTES);
+
+        vertexFormat(Programs.POSITION_ATTRIBUTE, 2, 0);
+        vertexFormat(Programs.UV_ATTRIBUTE, 2, 8);
+        vertexFormat(Programs.COLOR_ATTRIBUTE, 4, 16);
+    }
+
+    private void vertexFormat(final int attribute, final int size, final int offset) {
+        glEnableVertexArrayAttrib(vao, attribute);
+        glVertexArrayAttribFormat(vao, attribute, size, GL_FLOAT, false, offset);
+        glVertexArrayAttribBinding(vao, attribute, 0);
+    }
+
+    private void initBindToEdit(final ShortBuffer indices) {
+        if (glCaps.OpenGL30) {
+            vao = glGenVertexArrays();
+            glState.bindVertexArray(vao);
+        }
+
+        elementBuffer = glGenBuffers();
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, elementBuffer);
+        glBufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_STATIC_DRAW);
+
+        stream = new OrphanedStreamBuffer(glState, BATCH_BYTES);
+
+        glState.enableVertexAttribArray(Programs.POSITION_ATTRIBUTE);
+        glState.vertexAttribPointer(Programs.POSITION_ATTRIBUTE, 2, GL_FLOAT, false, VERTEX_BYTES, 0L);
+
+        glState.enableVertexAttribArray(Programs.UV_ATTRIBUTE);
+        glState.vertexAttribPointer(Programs.UV_ATTRIBUTE, 2, GL_FLOAT, false, VERTEX_BYTES, 8L);
+
+        glState.enableVertexAttribArray(Programs.COLOR_ATTRIBUTE);
+        glState.vertexAttribPointer(Programs.COLOR_ATTRIBUTE, 4, GL_FLOAT, false, VERTEX_BYTES, 16L);
+    }
+
+    public void begin(final ProgramType programType, final Texture2D texture) {
+        if (programType != this.programType || texture != this.texture) {
+            flush();
+
+            this.programType = programType;
+            this.texture = texture;
+        }
+    }
+
+    public void addQuad(final float x, final float y, final float w, final float h, final double angle,
+                        final float u, final float v, final float uw, final float vh, final Color color) {
+        if (quadCount == MAX_QUADS)
+            flush();
+
+        if (quadCount == 0)
+            vertices = stream.reserve(BATCH_BYTES);
+
+        putQuad(vertices, x, y, w, h, angle, u, v, uw, vh, color);
+        ++quadCount;
+    }
+
+    public void flush() {
+        if (quadCount == 0)
+            return;
+
+        programs.getProgram(programType);
+
+        if (texture != null)
+            glState.bindTexture(0, texture.id());
+
+        glState.bindVertexArray(vao);
+
+        final int offset = stream.commit(quadCount * 4 * VERTEX_BYTES);
+
+        glDrawElementsBaseVertex(GL_TRIANGLES, quadCount * 6, GL_UNSIGNED_SHORT, 0L, offset / VERTEX_BYTES);
+        stream.fence();
+
+        vertices = null;
+        quadCount = 0;
+    }
+
+    static void putQuad(final FloatBuffer vertices, final float x, final float y, final float w, final float h,
+                        final double angle, final float u, final float v, final float uw, final float vh,
+                        final Color color) {
+        final Color.Data colors = color.colors();
+
+        if (angle == 0.0) {
+            putVertex(vertices, x, y + h, u, v + vh, colors.bottomLeft);
+            putVertex(vertices, x + w, y + h, u + uw, v + vh, colors.bottomRight);
+            putVertex(vertices, x + w, y, u + uw, v, colors.topRight);
+            putVertex(vertices, x, y, u, v, colors.topLeft);
+            return;
+        }
+
+        final float radians = (float) Math.toRadians(angle);
+        final float cos = (float) Math.cos(radians);
+        final float sin = (float) Math.sin(radians);
+        final float half_w = w / 2.0f;
+        final float half_h = h / 2.0f;
+        final float center_x = x + half_w;
+        final float center_y = y + half_h;
+
+        putVertex(vertices, center_x - half_w * cos - half_h * sin, center_y - half_w * sin + half_h * cos,
+                u, v + vh, colors.bottomLeft);
+        putVertex(vertices, center_x + half_w * cos - half_h * sin, center_y + half_w * sin + half_h * cos,
+                u + uw, v + vh, colors.bottomRight);
+        putVertex(vertices, center_x + half_w * cos + half_h * sin, center_y + half_w * sin - half_h * cos,
+                u + uw, v, colors.topRight);
+        putVertex(vertices, center_x - half_w * cos + half_h * sin, center_y - half_w * sin - half_h * cos,
+                u, v, colors.topLeft);
+    }
+
+    static FloatBuffer putColors(final FloatBuffer buffer, final Color color) {
+        final Color.Data colors = color.colors();
+
+        buffer.clear();
+        putColor(buffer, colors.bottomLeft);
+        putColor(buffer, colors.bottomRight);
+        putColor(buffer, colors.topRight);
+        putColor(buffer, colors.topLeft);
+
+        return buffer.flip();
+    }
+
+    private static void putVertex(final FloatBuffer vertices, final float x, final float y,
+                                  final float u, final float v, final Color.Vec4 color) {
+        vertices.put(x).put(y).put(u).put(v);
+        putColor(vertices, color);
+    }
+
+    private static void putColor(final FloatBuffer buffer, final Color.Vec4 color) {
+        buffer.put(color.r()).put(color.g()).put(color.b()).put(color.a());
+    }
+}
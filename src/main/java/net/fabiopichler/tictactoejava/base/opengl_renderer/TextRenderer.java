@@ -0,0 +1,236 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.base.opengl_renderer;
+
+import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.freetype.DrawableText;
+import net.fabiopichler.tictactoejava.base.freetype.Font;
+import net.fabiopichler.tictactoejava.base.freetype.FontManager;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+
+import org.lwjgl.*;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.*;
+
+import static org.lwjgl.opengl.GL45C.*;
+
+public class TextRenderer {
+    private static final int GLYPH_BYTES = DrawableText.FLOATS_PER_GLYPH * Float.BYTES;
+
+    private static class Instances {
+        public int buffer;
+    }
+
+    private final GLCapabilities glCaps;
+    private final Programs programs;
+    private final GLState glState;
+    private final boolean directStateAccess;
+    private final FloatBuffer colorsBuffer = BufferUtils.createFloatBuffer(4 * 4);
+    private int vao;
+    private int quadBuffer;
+    private int elementBuffer;
+    private int boundInstanceBuffer;
+    private long boundInstanceOffset;
+
+    public TextRenderer(final GLCapabilities glCaps, final Programs programs, final GLState glState,
+                        final boolean directStateAccess) {
+        this.glCaps = glCaps;
+        this.programs = programs;
+        this.glState = glState;
+        this.directStateAccess = directStateAccess;
+    }
+
+    public void release() {
+        glState.deleteBuffer(quadBuffer);
+        glState.deleteBuffer(elementBuffer);
+
+        if (glCaps.OpenGL30)
+            glState.deleteVertexArray(vao);
+    }
+
+    public void init() {
+        final ShortBuffer indices = BufferUtils.createShortBuffer(6);
+        indices.put((short) 0).put((short) 1).put((short) 2);
+        indices.put((short) 0).put((short) 2).put((short) 3);
+        indices.flip();
+
+        final FloatBuffer vertices = BufferUtils.createFloatBuffer(4 * 4);
+        vertices.put(0.0f).put(1.0f).put(0.0f).put(1.0f);
+        vertices.put(1.0f).put(1.0f).put(1.0f).put(1.0f);
+        vertices.put(1.0f).put(0.0f).put(1.0f).put(0.0f);
+        vertices.put(0.0f).put(0.0f).put(0.0f).put(0.0f);
+        vertices.flip();
+
+        if (directStateAccess)
+            initDirectStateAccess(indices, vertices);
+        else
+            initBindToEdit(indices, vertices);
+    }
+
+    private void initDirectStateAccess(final ShortBuffer indices, final FloatBuffer vertices) {
+        elementBuffer = glCreateBuffers();
+        glNamedBufferStorage(elementBuffer, indices, 0);
+
+        quadBuffer = glCreateBuffers();
+        glNamedBufferStorage(quadBuffer, vertices, 0);
+
+        vao = glCreateVertexArrays();
+        glVertexArrayElementBuffer(vao, elementBuffer);
+        glVertexArrayVertexBuffer(vao, 0, quadBuffer, 0L, 16);
+        glVertexArrayBindingDivisor(vao, 1, 1);
+
+        vertexFormat(Programs.POSITION_ATTRIBUTE, 2, 0, 0);
+        vertexFormat(Programs.UV_ATTRIBUTE, 2, 8, 0);
+        vertexFormat(Programs.RECT_ATTRIBUTE, 4, 0, 1);
+        vertexFormat(Programs.SOURCE_ATTRIBUTE, 4, 16, 1);
+    }
+
+    private void vertexFormat(final int attribute, final int size, final int offset, final int binding) {
+        glEnableVertexArrayAttrib(vao, attribute);
+        glVertexArrayAttribFormat(vao, attribute, size, GL_FLOAT, false, offset);
+        glVertexArrayAttribBinding(vao, attribute, binding);
+    }
+
+    private void initBindToEdit(final ShortBuffer indices, final FloatBuffer vertices) {
+        if (glCaps.OpenGL30) {
+            vao = glGenVertexArrays();
+            glState.bindVertexArray(vao);
+        }
+
+        elementBuffer = glGenBuffers();
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, elementBuffer);
+        glBufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_STATIC_DRAW);
+
+        quadBuffer = glGenBuffers();
+        glState.bindArrayBuffer(quadBuffer);
+        glBufferData(GL_ARRAY_BUFFER, vertices, GL_STATIC_DRAW);
+
+        glState.enableVertexAttribArray(Programs.POSITION_ATTRIBUTE);
+        glState.vertexAttribPointer(Programs.POSITION_ATTRIBUTE, 2, GL_FLOAT, false, 16, 0L);
+
+        glState.enableVertexAttribArray(Programs.UV_ATTRIBUTE);
+        glState.vertexAttribPointer(Programs.UV_ATTRIBUTE, 2, GL_FLOAT, false, 16, 8L);
+
+        glState.enableVertexAttribArray(Programs.RECT_ATTRIBUTE);
+        glState.vertexAttribDivisor(Programs.RECT_ATTRIBUTE, 1);
+
+        glState.enableVertexAttribArray(Programs.SOURCE_ATTRIBUTE);
+        glState.vertexAttribDivisor(Programs.SOURCE_ATTRIBUTE, 1);
+    }
+
+    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars,
+                     final Color outlineColor, final float outlineWidth) {
+        final int count = visibleChars > -1 ? Math.min(visibleChars, text.glyphCount()) : text.glyphCount();
+
+        if (count == 0)
+            return;
+
+        final Locations program = programs.getProgram(ProgramType.Font);
+
+        glUniform2f(program.uOffset, x, y);
+        glUniform4fv(program.uColors, SpriteBatch.putColors(colorsBuffer, color));
+        distanceField(program, text.font(), outlineColor, outlineWidth);
+
+        glState.bindVertexArray(vao);
+
+        final int instanceBuffer = instanceBuffer(text);
+
+        for (int start = 0; start < count; ) {
+            final int end = text.pageRunEnd(start, count);
+            final Texture2D texture = (Texture2D) text.font().texture(text.page(start));
+            final long offset = (long) start * GLYPH_BYTES;
+
+            glState.bindTexture(0, texture.id());
+            glUniform2f(program.uTextureScale, 1.0f / texture.width(), 1.0f / texture.height());
+
+            if (directStateAccess) {
+                if (instanceBuffer != boundInstanceBuffer || offset != boundInstanceOffset) {
+                    glVertexArrayVertexBuffer(vao, 1, instanceBuffer, offset, GLYPH_BYTES);
+                    boundInstanceBuffer = instanceBuffer;
+                    boundInstanceOffset = offset;
+                }
+            } else {
+                glState.bindArrayBuffer(instanceBuffer);
+                glState.vertexAttribPointer(Programs.RECT_ATTRIBUTE, 4, GL_FLOAT, false, GLYPH_BYTES, offset);
+                glState.vertexAttribPointer(Programs.SOURCE_ATTRIBUTE, 4, GL_FLOAT, false, GLYPH_BYTES, offset + 16L);
+            }
+
+            glDrawElementsInstanced(GL_TRIANGLES, 6, GL_UNSIGNED_SHORT, 0L, end - start);
+            start = end;
+        }
+    }
+
+    public void releaseText(final DrawableText text) {
+        if (text == null || text.instances() == null)
+            return;
+
+        final int buffer = ((Instances) text.instances()).buffer;
+
+        if (buffer == boundInstanceBuffer)
+            boundInstanceBuffer = 0;
+
+        glState.deleteBuffer(buffer);
+        text.setInstances(null);
+    }
+
+    private int instanceBuffer(final DrawableText text) {
+        if (text.instances() != null)
+            return ((Instances) text.instances()).buffer;
+
+        final var instances = new Instances();
+
+        if (directStateAccess) {
+            instances.buffer = glCreateBuffers();
+            glNamedBufferStorage(instances.buffer, text.glyphs(), 0);
+        } else {
+            instances.buffer = glGenBuffers();
+            glState.bindArrayBuffer(instances.buffer);
+            glBufferData(GL_ARRAY_BUFFER, text.glyphs(), GL_STATIC_DRAW);
+        }
+
+        text.setInstances(instances);
+
+        return instances.buffer;
+    }
+
+    private void distanceField(final Locations program, final Font font, final Color outlineColor,
+                               final float outlineWidth) {
+        if (!font.isSdf()) {
+            glUniform2f(program.uSdf, 0.0f, 0.0f);
+            return;
+        }
+
+        final float outline = outlineColor != null ? outlineWidth / (font.scale() * 2.0f * FontManager.SDF_SPREAD) : 0.0f;
+
+        glUniform2f(program.uSdf, 1.0f, Math.min(0.5f, outline));
+
+        if (outline > 0.0f) {
+            final var c = outlineColor.colors().topLeft;
+            glUniform4f(program.uOutlineColor, c.r(), c.g(), c.b(), c.a());
+        }
+    }
+}
@@ -26,27 +26,51 @@ package net.fabiopichler.tictactoejava.base.opengl_renderer;
 
 import net.fabiopichler.tictactoejava.base.TextureFilter;
 import net.fabiopichler.tictactoejava.base.freetype.FontManager;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
 import net.fabiopichler.tictactoejava.base.utils.IntRef;
+import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
+import org.lwjgl.BufferUtils;
 import org.lwjgl.opengl.GLCapabilities;
 
 import java.nio.*;
+import java.util.*;
 
 import static org.lwjgl.opengl.GL33C.*;
 
 public class Textures {
+    private static final int ATLAS_PAGE_SIZE = 1024;
+    private static final int ATLAS_MAX_IMAGE_SIZE = 256;
+    private static final int ATLAS_PADDING = 1;
+    private static final int ATLAS_STAGING_SIZE = ATLAS_MAX_IMAGE_SIZE + ATLAS_PADDING * 2;
+
     private final GLCapabilities glCaps;
+    private final SpriteBatch spriteBatch;
+    private final GLState glState;
+    private final Map<String, AtlasRegion> images = new HashMap<>();
+    private final List<AtlasPage> pages = new ArrayList<>();
+    private final ByteBuffer staging = BufferUtils.createByteBuffer(ATLAS_STAGING_SIZE * ATLAS_STAGING_SIZE * 4);
 
-    public Textures(final GLCapabilities glCaps) {
+    public Textures(final GLCapabilities glCaps, final SpriteBatch spriteBatch, final GLState glState) {
         this.glCaps = glCaps;
+        this.spriteBatch = spriteBatch;
+        this.glState = glState;
     }
 
     public void release() {
         FontManager.instance().deleteTextures();
-        FontManager.instance().removeEvents();
+        FontManager.instance().removeEvents(this);
+
+        for (final AtlasPage page : pages)
+            destroyTexture(page.texture);
+
+        pages.clear();
+        images.clear();
     }
 
     public void init() {
-        FontManager.instance().setEvents(this::onCreateFontTexture, this::onDeleteFontTexture);
+        FontManager.instance().setEvents(this,
+                this::onCreateFontTexture, this::onUpdateFontTexture, this::onDeleteFontTexture);
     }
 
     public Texture2D createTexture(final ImageData image, final TextureFilter filter) {
@@ -54,13 +78,13 @@ public class Textures {
         final IntRef format = new IntRef();
         final int rowLength = image.pitch / image.bytesPerPixel;
 
-        getFormat(image, mode, format);
+        getFormat(image.bytesPerPixel, image.rmask, mode, format);
 
         if (rowLength != image.width)
             glPixelStorei(GL_UNPACK_ROW_LENGTH, rowLength);
 
         final int texture = glGenTextures();
-        glBindTexture(GL_TEXTURE_2D, texture);
+        glState.bindTexture(0, texture);
 
         glTexImage2D(GL_TEXTURE_2D, 0, mode.value, image.width, image.height, 0, format.value, GL_UNSIGNED_BYTE, image.buffer);
 
@@ -70,22 +94,240 @@ public class Textures {
         filter(filter);
         clampToEdge();
 
-        glBindTexture(GL_TEXTURE_2D, 0);
+        glState.bindTexture(0, 0);
         glPixelStorei(GL_UNPACK_ROW_LENGTH, 0);
 
         return new Texture2D(texture, image.width, image.height);
     }
 
     public void destroyTexture(final Texture2D texture) {
-        if (texture != null)
-            glDeleteTextures(texture.id());
+        if (texture == null)
+            return;
+
+        spriteBatch.flush();
+        glState.deleteTexture(texture.id());
+    }
+
+    public AtlasRegion acquireImage(final String key, final TextureFilter filter) {
+        if (key == null)
+            return null;
+
+        final AtlasRegion region = images.get(imageKey(key, filter));
+
+        if (region != null)
+            ++region.references;
+
+        return region;
+    }
+
+    public AtlasRegion createImage(final String key, final ImageData image, final TextureFilter filter) {
+        final String imageKey = key != null ? imageKey(key, filter) : null;
+        final AtlasRegion region;
+
+        if (filter == TextureFilter.Mipmap || image.width > ATLAS_MAX_IMAGE_SIZE || image.height > ATLAS_MAX_IMAGE_SIZE) {
+            region = new AtlasRegion(imageKey, createTexture(image, filter), null,
+                    image.bytesPerPixel, image.rmask, image.width, image.height);
+        } else {
+            region = new AtlasRegion(imageKey, null, copyPixels(image),
+                    image.bytesPerPixel, image.rmask, image.width, image.height);
+
+            place(region, filter);
+        }
+
+        if (imageKey != null)
+            images.put(imageKey, region);
+
+        return region;
+    }
+
+    public void releaseImage(final AtlasRegion region) {
+        if (region == null || --region.references > 0)
+            return;
+
+        if (region.key != null)
+            images.remove(region.key);
+
+        final AtlasPage page = region.page;
+
+        if (page == null) {
+            destroyTexture(region.texture);
+            return;
+        }
+
+        page.regions.remove(region);
+        page.liveArea -= paddedArea(region);
+        region.page = null;
+
+        if (page.regions.isEmpty()) {
+            pages.remove(page);
+            destroyTexture(page.texture);
+        } else if (page.liveArea * 2 < page.packer.usedArea()) {
+            repack(page);
+        }
+    }
+
+    public int atlasPageCount() {
+        return pages.size();
+    }
+
+    private void place(final AtlasRegion region, final TextureFilter filter) {
+        final IntVec2 position = new IntVec2();
+        final int w = region.width() + ATLAS_PADDING * 2;
+        final int h = region.height() + ATLAS_PADDING * 2;
+
+        for (final AtlasPage page : pages) {
+            if (page.filter == filter && page.packer.pack(w, h, position)) {
+                addToPage(page, region, position);
+                return;
+            }
+        }
+
+        final AtlasPage page = new AtlasPage(filter, createPageTexture(filter));
+        pages.add(page);
+
+        if (!page.packer.pack(w, h, position))
+            throw new RuntimeException("Image does not fit in an atlas page");
+
+        addToPage(page, region, position);
+    }
+
+    private void addToPage(final AtlasPage page, final AtlasRegion region, final IntVec2 position) {
+        region.page = page;
+        region.texture = page.texture;
+        region.setPosition(position.x + ATLAS_PADDING, position.y + ATLAS_PADDING);
+
+        page.regions.add(region);
+        page.liveArea += paddedArea(region);
+
+        upload(region);
+    }
+
+    private void repack(final AtlasPage page) {
+        final List<AtlasRegion> regions = new ArrayList<>(page.regions);
+        final IntVec2 position = new IntVec2();
+
+        regions.sort((a, b) -> Integer.compare(b.height(), a.height()));
+
+        page.regions.clear();
+        page.liveArea = 0;
+        page.packer.reset();
+
+        for (final AtlasRegion region : regions) {
+            if (page.packer.pack(region.width() + ATLAS_PADDING * 2, region.height() + ATLAS_PADDING * 2, position))
+                addToPage(page, region, position);
+            else
+                place(region, page.filter);
+        }
+    }
+
+    private Texture2D createPageTexture(final TextureFilter filter) {
+        final int texture = glGenTextures();
+        glState.bindTexture(0, texture);
+
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE, 0, GL_RGBA, GL_UNSIGNED_BYTE,
+                (ByteBuffer) null);
+
+        if (glGetError() != GL_NO_ERROR)
+            throw new RuntimeException("OpenGL error");
+
+        filter(filter);
+        clampToEdge();
+
+        glState.bindTexture(0, 0);
+
+        return new Texture2D(texture, ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE);
+    }
+
+    private void upload(final AtlasRegion region) {
+        final IntRef mode = new IntRef();
+        final IntRef format = new IntRef();
+
+        getFormat(region.bytesPerPixel, region.rmask, mode, format);
+
+        spriteBatch.flush();
+        glState.bindTexture(0, region.texture.id());
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+
+        glTexSubImage2D(GL_TEXTURE_2D, 0, region.x() - ATLAS_PADDING, region.y() - ATLAS_PADDING,
+                region.width() + ATLAS_PADDING * 2, region.height() + ATLAS_PADDING * 2,
+                format.value, GL_UNSIGNED_BYTE, padPixels(region));
+
+        glState.bindTexture(0, 0);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
+    }
+
+    private ByteBuffer padPixels(final AtlasRegion region) {
+        final int bytesPerPixel = region.bytesPerPixel;
+        final int rowBytes = region.width() * bytesPerPixel;
+        final ByteBuffer source = region.pixels;
+        final ByteBuffer line = source.duplicate();
+
+        staging.clear();
+
+        for (int row = -ATLAS_PADDING; row < region.height() + ATLAS_PADDING; ++row) {
+            final int offset = Math.max(0, Math.min(row, region.height() - 1)) * rowBytes;
+
+            for (int i = 0; i < ATLAS_PADDING; ++i)
+                copyPixel(source, offset, bytesPerPixel);
+
+            line.limit(offset + rowBytes).position(offset);
+            staging.put(line);
+
+            for (int i = 0; i < ATLAS_PADDING; ++i)
+                copyPixel(source, offset + rowBytes - bytesPerPixel, bytesPerPixel);
+        }
+
+        return staging.flip();
+    }
+
+    private void copyPixel(final ByteBuffer source, final int offset, final int bytesPerPixel) {
+        for (int i = 0; i < bytesPerPixel; ++i)
+            staging.put(source.get(offset + i));
+    }
+
+    private static ByteBuffer copyPixels(final ImageData image) {
+        final int rowBytes = image.width * image.bytesPerPixel;
+        final ByteBuffer pixels = BufferUtils.createByteBuffer(rowBytes * image.height);
+        final ByteBuffer source = image.buffer.duplicate();
+
+        for (int row = 0; row < image.height; ++row) {
+            source.limit(row * image.pitch + rowBytes).position(row * image.pitch);
+            pixels.put(source);
+        }
+
+        return pixels.flip();
+    }
+
+    private static int paddedArea(final AtlasRegion region) {
+        return (region.width() + ATLAS_PADDING * 2) * (region.height() + ATLAS_PADDING * 2);
+    }
+
+    private static String imageKey(final String key, final TextureFilter filter) {
+        return filter.name() + ":" + key;
+    }
+
+    public Texture2D createRenderTexture(final int width, final int height) {
+        final int texture = glGenTextures();
+        glState.bindTexture(0, texture);
+
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+
+        if (glGetError() != GL_NO_ERROR)
+            throw new RuntimeException("OpenGL error");
+
+        filter(TextureFilter.Linear);
+        clampToEdge();
+
+        glState.bindTexture(0, 0);
+
+        return new Texture2D(texture, width, height);
     }
 
     private Texture2D onCreateFontTexture(final ByteBuffer pixels, final int width, final int height, final int filter) {
         glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
 
         final int texture = glGenTextures();
-        glBindTexture(GL_TEXTURE_2D, texture);
+        glState.bindTexture(0, texture);
 
         glTexImage2D(GL_TEXTURE_2D, 0, GL_RED, width, height, 0, GL_RED, GL_UNSIGNED_BYTE, pixels);
 
@@ -95,29 +337,43 @@ public class Textures {
         filter(TextureFilter.values()[filter]);
         clampToEdge();
 
-        glBindTexture(GL_TEXTURE_2D, 0);
+        glState.bindTexture(0, 0);
         glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
 
         return new Texture2D(texture, width, height);
     }
 
+    private void onUpdateFontTexture(final Object texture, final int x, final int y, final int width, final int height,
+                                     final ByteBuffer pixels, final int filter) {
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+        glState.bindTexture(0, ((Texture2D)texture).id());
+
+        glTexSubImage2D(GL_TEXTURE_2D, 0, x, y, width, height, GL_RED, GL_UNSIGNED_BYTE, pixels);
+
+        if (TextureFilter.values()[filter] == TextureFilter.Mipmap && glCaps.OpenGL30)
+            glGenerateMipmap(GL_TEXTURE_2D);
+
+        glState.bindTexture(0, 0);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
+    }
+
     private void onDeleteFontTexture(final Object texture) {
         destroyTexture((Texture2D)texture);
     }
 
-    private void getFormat(final ImageData image, final IntRef mode, final IntRef format) {
-        if (image.bytesPerPixel == 4) {
+    private void getFormat(final int bytesPerPixel, final int rmask, final IntRef mode, final IntRef format) {
+        if (bytesPerPixel == 4) {
             mode.value = GL_RGBA;
             format.value = GL_RGBA;
 
-            if (image.rmask != 0x000000ff)
+            if (rmask != 0x000000ff)
                 format.value = GL_BGRA;
 
         } else {
             mode.value = GL_RGB;
             format.value = GL_RGB;
 
-            if (image.rmask != 0x000000ff)
+            if (rmask != 0x000000ff)
                 format.value = GL_BGR;
         }
     }
@@ -0,0 +1,98 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.profiler;
+
+import java.util.Arrays;
+
+public class FrameProfiler {
+    public static final int WINDOW = 240;
+
+    private final long[][] samples = new long[Phase.values().length][WINDOW];
+    private final int[] counts = new int[Phase.values().length];
+    private final int[] next = new int[Phase.values().length];
+    private final long[] sorted = new long[WINDOW];
+    private long frames;
+
+    public synchronized void record(final Phase phase, final long nanos) {
+        final int index = phase.ordinal();
+
+        samples[index][next[index]] = nanos;
+        next[index] = (next[index] + 1) % WINDOW;
+
+        if (counts[index] < WINDOW)
+            ++counts[index];
+    }
+
+    public synchronized void endFrame() {
+        ++frames;
+    }
+
+    public synchronized long frameCount() {
+        return frames;
+    }
+
+    public synchronized int sampleCount(final Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public synchronized double average(final Phase phase) {
+        final int index = phase.ordinal();
+
+        if (counts[index] == 0)
+            return 0.0;
+
+        long total = 0;
+
+        for (int i = 0; i < counts[index]; ++i)
+            total += samples[index][i];
+
+        return (double) total / counts[index];
+    }
+
+    public synchronized long percentile(final Phase phase, final double percentile) {
+        final int index = phase.ordinal();
+        final int count = counts[index];
+
+        if (count == 0)
+            return 0;
+
+        System.arraycopy(samples[index], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        final int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+
+        return sorted[Math.max(0, Math.min(count - 1, rank))];
+    }
+
+    public synchronized long max(final Phase phase) {
+        return percentile(phase, 100.0);
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(next, 0);
+        frames = 0;
+    }
+}
@@ -0,0 +1,102 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.profiler;
+
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.base.drawables.FontSize;
+import net.fabiopichler.tictactoejava.base.drawables.Text;
+
+public class ProfilerOverlay {
+    private static final double REFRESH_INTERVAL = 0.25;
+
+    private final IRenderer renderer;
+    private final FrameProfiler profiler;
+    private final Text text;
+    private final StringBuilder builder = new StringBuilder();
+    private boolean visible;
+    private double elapsed;
+
+    public ProfilerOverlay(final IRenderer renderer, final FrameProfiler profiler) {
+        this.renderer = renderer;
+        this.profiler = profiler;
+
+        text = new Text(renderer);
+        text.setFontSize(FontSize.SMALL);
+        text.setColor(255, 255, 255);
+        text.setPosition(8, 8);
+        text.background().setColor(0, 0, 0, 0.75f);
+    }
+
+    public void release() {
+        text.release();
+    }
+
+    public void toggle() {
+        visible = !visible;
+        elapsed = REFRESH_INTERVAL;
+        renderer.invalidate();
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void update(final double deltaTime) {
+        if (!visible)
+            return;
+
+        elapsed += deltaTime;
+
+        if (elapsed < REFRESH_INTERVAL)
+            return;
+
+        elapsed = 0.0;
+        text.setText(format());
+    }
+
+    public void draw() {
+        if (visible)
+            text.draw();
+    }
+
+    private String format() {
+        builder.setLength(0);
+        builder.append(String.format("%d frames, last %d (ms: avg / p50 / p95 / p99)",
+                profiler.frameCount(), FrameProfiler.WINDOW));
+
+        for (final Phase phase : Phase.values()) {
+            if (profiler.sampleCount(phase) == 0)
+                continue;
+
+            builder.append(String.format("\n%s: %.2f / %.2f / %.2f / %.2f", phase.name(),
+                    profiler.average(phase) / 1e6,
+                    profiler.percentile(phase, 50.0) / 1e6,
+                    profiler.percentile(phase, 95.0) / 1e6,
+                    profiler.percentile(phase, 99.0) / 1e6));
+        }
+
+        return builder.toString();
+    }
+}
@@ -22,7 +22,7 @@ SOFTWARE.
 
 -------------------------------------------------------------------------------*/
 
-package net.fabiopichler.tictactoejava.base.opengl_renderer;
+package net.fabiopichler.tictactoejava.base.render;
 
 import java.nio.ByteBuffer;
 
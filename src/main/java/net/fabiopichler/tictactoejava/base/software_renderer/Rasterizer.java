@@ -0,0 +1,380 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.software_renderer;
+
+import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.TextureFilter;
+
+import java.util.Arrays;
+
+class Rasterizer {
+    private static final int WHITE = 0x00ffffff;
+
+    private final float[] corners = new float[16];
+    private SoftwareTexture target;
+    private int viewport_x;
+    private int viewport_y;
+    private int viewport_w;
+    private int viewport_h;
+    private float view_x;
+    private float view_y;
+    private float scale_x;
+    private float scale_y;
+    private boolean premultipliedSource;
+    private boolean uniformColor;
+    private int[] columns = new int[0];
+    private final byte[] distanceRamp = new byte[256];
+    private boolean distanceField;
+
+    void setTarget(final SoftwareTexture target, final int x, final int y, final int w, final int h,
+                   final float viewX, final float viewY, final float viewW, final float viewH) {
+        this.target = target;
+        viewport_x = Math.max(0, x);
+        viewport_y = Math.max(0, y);
+        viewport_w = Math.min(target.pixelWidth(), x + w) - viewport_x;
+        viewport_h = Math.min(target.pixelHeight(), y + h) - viewport_y;
+        view_x = viewX - x * viewW / w;
+        view_y = viewY - y * viewH / h;
+        scale_x = w / viewW;
+        scale_y = h / viewH;
+    }
+
+    void setPremultipliedSource(final boolean premultipliedSource) {
+        this.premultipliedSource = premultipliedSource;
+    }
+
+    void setDistanceField(final float range, final float offset) {
+        final float pixels = range * scale_x;
+
+        for (int i = 0; i < distanceRamp.length; ++i) {
+            final float alpha = (i / 255.0f - 0.5f) * pixels + offset * scale_x + 0.5f;
+            distanceRamp[i] = (byte) toByte(Math.max(0.0f, Math.min(1.0f, alpha)));
+        }
+
+        distanceField = true;
+    }
+
+    void clearDistanceField() {
+        distanceField = false;
+    }
+
+    void clear(final int rgba) {
+        Arrays.fill(target.pixels(), rgba);
+    }
+
+    void fillQuad(final float x, final float y, final float w, final float h, final double angle,
+                  final SoftwareTexture texture, final float u, final float v, final float uw, final float vh,
+                  final Color.Data colors) {
+        if (w <= 0.0f || h <= 0.0f)
+            return;
+
+        setColors(colors);
+
+        if (uniformColor && toByte(corners[3]) == 0)
+            return;
+
+        final boolean nearest = texture != null && (texture.filter() == TextureFilter.Nearest
+                || (angle == 0.0 && Math.abs(uw - w * scale_x) < 0.001f && Math.abs(vh - h * scale_y) < 0.001f));
+
+        if (angle == 0.0 && uniformColor && (texture == null || nearest))
+            fillAxisAligned(x, y, w, h, texture, u, v, uw, vh);
+        else
+            fillTransformed(x, y, w, h, angle, texture, nearest, u, v, uw, vh);
+    }
+
+    private void fillAxisAligned(final float x, final float y, final float w, final float h,
+                                 final SoftwareTexture texture, final float u, final float v,
+                                 final float uw, final float vh) {
+        final int start_x = firstCovered(viewport_x, viewport_x + viewport_w, x, view_x, scale_x);
+        final int end_x = lastCovered(start_x, viewport_x + viewport_w, x + w, view_x, scale_x);
+        final int start_y = firstCovered(viewport_y, viewport_y + viewport_h, y, view_y, scale_y);
+        final int end_y = lastCovered(start_y, viewport_y + viewport_h, y + h, view_y, scale_y);
+
+        if (start_x >= end_x || start_y >= end_y)
+            return;
+
+        final int[] pixels = target.pixels();
+        final int stride = target.pixelWidth();
+        final int color_r = toByte(corners[0]);
+        final int color_g = toByte(corners[1]);
+        final int color_b = toByte(corners[2]);
+        final int color_a = toByte(corners[3]);
+
+        if (texture == null) {
+            final int packed = source(WHITE | 0xff000000, color_r, color_g, color_b, color_a);
+
+            for (int py = start_y; py < end_y; ++py) {
+                final int row = py * stride;
+
+                if (color_a == 255) {
+                    Arrays.fill(pixels, row + start_x, row + end_x, packed);
+                    continue;
+                }
+
+                for (int px = start_x; px < end_x; ++px)
+                    pixels[row + px] = blend(pixels[row + px], packed);
+            }
+
+            return;
+        }
+
+        final int texture_w = texture.pixelWidth();
+        final int texture_h = texture.pixelHeight();
+        final int span = end_x - start_x;
+        final boolean copy = premultipliedSource && (color_r & color_g & color_b & color_a) == 255;
+
+        if (columns.length < span)
+            columns = new int[Math.max(span, stride)];
+
+        for (int i = 0; i < span; ++i) {
+            final float s = ((start_x + i + 0.5f) / scale_x + view_x - x) / w;
+            columns[i] = clamp(floor(u + s * uw), texture_w);
+        }
+
+        for (int py = start_y; py < end_y; ++py) {
+            final float t = ((py + 0.5f) / scale_y + view_y - y) / h;
+            final int source = clamp(floor(v + t * vh), texture_h) * texture_w;
+            final int row = py * stride + start_x;
+
+            for (int i = 0; i < span; ++i) {
+                final int texel = fetch(texture, source + columns[i]);
+
+                if (copy && texel >>> 24 == 255)
+                    pixels[row + i] = texel;
+                else
+                    pixels[row + i] = blend(pixels[row + i], source(texel, color_r, color_g, color_b, color_a));
+            }
+        }
+    }
+
+    private void fillTransformed(final float x, final float y, final float w, final float h, final double angle,
+                                 final SoftwareTexture texture, final boolean nearest,
+                                 final float u, final float v, final float uw, final float vh) {
+        final float radians = (float) Math.toRadians(angle);
+        final float cos = angle == 0.0 ? 1.0f : (float) Math.cos(radians);
+        final float sin = angle == 0.0 ? 0.0f : (float) Math.sin(radians);
+        final float half_w = w / 2.0f;
+        final float half_h = h / 2.0f;
+        final float center_x = x + half_w;
+        final float center_y = y + half_h;
+        final float extent_x = Math.abs(half_w * cos) + Math.abs(half_h * sin);
+        final float extent_y = Math.abs(half_w * sin) + Math.abs(half_h * cos);
+
+        final int min_x = Math.max(viewport_x, floor((center_x - extent_x - view_x) * scale_x));
+        final int max_x = Math.min(viewport_x + viewport_w, (int) Math.ceil((center_x + extent_x - view_x) * scale_x));
+        final int min_y = Math.max(viewport_y, floor((center_y - extent_y - view_y) * scale_y));
+        final int max_y = Math.min(viewport_y + viewport_h, (int) Math.ceil((center_y + extent_y - view_y) * scale_y));
+
+        if (min_x >= max_x || min_y >= max_y)
+            return;
+
+        final int[] pixels = target.pixels();
+        final int stride = target.pixelWidth();
+        final float inv_w = 1.0f / w;
+        final float inv_h = 1.0f / h;
+        final float ds_dx = cos * inv_w / scale_x;
+        final float dt_dx = -sin * inv_h / scale_x;
+        final float dx = (min_x + 0.5f) / scale_x + view_x - center_x;
+        int color_r = toByte(corners[0]);
+        int color_g = toByte(corners[1]);
+        int color_b = toByte(corners[2]);
+        int color_a = toByte(corners[3]);
+
+        for (int py = min_y; py < max_y; ++py) {
+            final float dy = (py + 0.5f) / scale_y + view_y - center_y;
+            final float s0 = (dx * cos + dy * sin) * inv_w + 0.5f;
+            final float t0 = (dy * cos - dx * sin) * inv_h + 0.5f;
+            final int row = py * stride;
+
+            for (int px = min_x; px < max_x; ++px) {
+                final int step = px - min_x;
+                final float s = s0 + step * ds_dx;
+                final float t = t0 + step * dt_dx;
+
+                if (s < 0.0f || s >= 1.0f || t < 0.0f || t >= 1.0f)
+                    continue;
+
+                if (!uniformColor) {
+                    color_r = toByte(interpolate(0, s, t));
+                    color_g = toByte(interpolate(1, s, t));
+                    color_b = toByte(interpolate(2, s, t));
+                    color_a = toByte(interpolate(3, s, t));
+                }
+
+                final int texel;
+
+                if (texture == null)
+                    texel = WHITE | 0xff000000;
+                else if (nearest)
+                    texel = sampleNearest(texture, u + s * uw, v + t * vh);
+                else
+                    texel = sampleLinear(texture, u + s * uw, v + t * vh);
+
+                pixels[row + px] = blend(pixels[row + px], source(texel, color_r, color_g, color_b, color_a));
+            }
+        }
+    }
+
+    private int source(final int texel, final int color_r, final int color_g, final int color_b, final int color_a) {
+        final int a = div255((texel >>> 24) * color_a);
+        int r = div255((texel & 0xff) * color_r);
+        int g = div255(((texel >>> 8) & 0xff) * color_g);
+        int b = div255(((texel >>> 16) & 0xff) * color_b);
+
+        if (!premultipliedSource) {
+            r = div255(r * a);
+            g = div255(g * a);
+            b = div255(b * a);
+        }
+
+        return r | (g << 8) | (b << 16) | (a << 24);
+    }
+
+    private static int blend(final int dst, final int src) {
+        final int inv_a = 255 - (src >>> 24);
+
+        if (inv_a == 0)
+            return src;
+
+        if (inv_a == 255 && (src & WHITE) == 0)
+            return dst;
+
+        return Math.min(255, (src & 0xff) + div255((dst & 0xff) * inv_a))
+                | (Math.min(255, ((src >>> 8) & 0xff) + div255(((dst >>> 8) & 0xff) * inv_a)) << 8)
+                | (Math.min(255, ((src >>> 16) & 0xff) + div255(((dst >>> 16) & 0xff) * inv_a)) << 16)
+                | (Math.min(255, (src >>> 24) + div255((dst >>> 24) * inv_a)) << 24);
+    }
+
+    private int fetch(final SoftwareTexture texture, final int index) {
+        final byte[] coverage = texture.coverage();
+
+        if (coverage == null)
+            return texture.pixels()[index];
+
+        return WHITE | ((distanceField ? distanceRamp[coverage[index] & 0xff] : coverage[index]) << 24);
+    }
+
+    private int sampleNearest(final SoftwareTexture texture, final float tu, final float tv) {
+        final int x = clamp(floor(tu), texture.pixelWidth());
+        final int y = clamp(floor(tv), texture.pixelHeight());
+
+        return fetch(texture, y * texture.pixelWidth() + x);
+    }
+
+    private int sampleLinear(final SoftwareTexture texture, final float tu, final float tv) {
+        final float fx = tu - 0.5f;
+        final float fy = tv - 0.5f;
+        final int x = floor(fx);
+        final int y = floor(fy);
+        final int wx = (int) ((fx - x) * 256.0f);
+        final int wy = (int) ((fy - y) * 256.0f);
+        final int w = texture.pixelWidth();
+        final int x0 = clamp(x, w);
+        final int x1 = clamp(x + 1, w);
+        final int y0 = clamp(y, texture.pixelHeight()) * w;
+        final int y1 = clamp(y + 1, texture.pixelHeight()) * w;
+        final int p00 = fetch(texture, y0 + x0);
+        final int p10 = fetch(texture, y0 + x1);
+        final int p01 = fetch(texture, y1 + x0);
+        final int p11 = fetch(texture, y1 + x1);
+
+        return bilinear(p00, p10, p01, p11, wx, wy, 0)
+                | (bilinear(p00, p10, p01, p11, wx, wy, 8) << 8)
+                | (bilinear(p00, p10, p01, p11, wx, wy, 16) << 16)
+                | (bilinear(p00, p10, p01, p11, wx, wy, 24) << 24);
+    }
+
+    private static int bilinear(final int p00, final int p10, final int p01, final int p11,
+                                final int wx, final int wy, final int shift) {
+        final int top = ((p00 >>> shift) & 0xff) * (256 - wx) + ((p10 >>> shift) & 0xff) * wx;
+        final int bottom = ((p01 >>> shift) & 0xff) * (256 - wx) + ((p11 >>> shift) & 0xff) * wx;
+
+        return (top * (256 - wy) + bottom * wy) >>> 16;
+    }
+
+    private void setColors(final Color.Data colors) {
+        putCorner(0, colors.topLeft);
+        putCorner(4, colors.topRight);
+        putCorner(8, colors.bottomLeft);
+        putCorner(12, colors.bottomRight);
+
+        uniformColor = true;
+
+        for (int i = 4; i < corners.length && uniformColor; ++i)
+            uniformColor = corners[i] == corners[i & 3];
+    }
+
+    private void putCorner(final int offset, final Color.Vec4 color) {
+        corners[offset] = color.r() / 255.0f;
+        corners[offset + 1] = color.g() / 255.0f;
+        corners[offset + 2] = color.b() / 255.0f;
+        corners[offset + 3] = color.a();
+    }
+
+    private float interpolate(final int channel, final float s, final float t) {
+        final float top = corners[channel] + (corners[4 + channel] - corners[channel]) * s;
+        final float bottom = corners[8 + channel] + (corners[12 + channel] - corners[8 + channel]) * s;
+
+        return top + (bottom - top) * t;
+    }
+
+    private static int firstCovered(final int min, final int max, final float start,
+                                    final float view, final float scale) {
+        int pixel = Math.max(min, floor((start - view) * scale));
+
+        while (pixel < max && (pixel + 0.5f) / scale + view < start)
+            ++pixel;
+
+        return pixel;
+    }
+
+    private static int lastCovered(final int min, final int max, final float end,
+                                   final float view, final float scale) {
+        int pixel = Math.min(max, (int) Math.ceil((end - view) * scale));
+
+        while (pixel > min && (pixel - 0.5f) / scale + view >= end)
+            --pixel;
+
+        return pixel;
+    }
+
+    private static int toByte(final float value) {
+        return (int) (value * 255.0f + 0.5f);
+    }
+
+    private static int div255(final int value) {
+        return (value + 1 + (value >>> 8)) >>> 8;
+    }
+
+    private static int floor(final float value) {
+        final int i = (int) value;
+
+        return value < i ? i - 1 : i;
+    }
+
+    private static int clamp(final int value, final int size) {
+        return value < 0 ? 0 : Math.min(value, size - 1);
+    }
+}
@@ -0,0 +1,64 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.software_renderer;
+
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.ILayerTarget;
+
+class SoftwareRegion implements IAtlasRegion, ILayerTarget {
+    final String key;
+    int references = 1;
+    private final SoftwareTexture texture;
+
+    SoftwareRegion(final String key, final SoftwareTexture texture) {
+        this.key = key;
+        this.texture = texture;
+    }
+
+    @Override
+    public SoftwareTexture texture() {
+        return texture;
+    }
+
+    @Override
+    public int x() {
+        return 0;
+    }
+
+    @Override
+    public int y() {
+        return 0;
+    }
+
+    @Override
+    public int width() {
+        return (int) texture.width();
+    }
+
+    @Override
+    public int height() {
+        return (int) texture.height();
+    }
+}
@@ -0,0 +1,338 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.software_renderer;
+
+import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.base.TextureFilter;
+import net.fabiopichler.tictactoejava.base.freetype.DrawableText;
+import net.fabiopichler.tictactoejava.base.freetype.Font;
+import net.fabiopichler.tictactoejava.base.freetype.FontManager;
+import net.fabiopichler.tictactoejava.base.render.IAtlasRegion;
+import net.fabiopichler.tictactoejava.base.render.ILayerTarget;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+import net.fabiopichler.tictactoejava.base.vectors.*;
+
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.stb.STBImageWrite.stbi_write_png;
+import static org.lwjgl.stb.STBImageWrite.stbi_write_png_compression_level;
+
+public class SoftwareRenderer implements IRenderer {
+    private static final int CLEAR_COLOR = 0xff000000;
+
+    private final Rasterizer rasterizer = new Rasterizer();
+    private final Map<String, SoftwareRegion> images = new HashMap<>();
+    private final Vec2 logicalSize;
+    private final IntRect viewport = new IntRect();
+    private final Color layerColor = new Color(255, 255, 255);
+    private SoftwareTexture framebuffer;
+    private ByteBuffer pngBuffer;
+    private boolean dirty = true;
+
+    public SoftwareRenderer(final int width, final int height) {
+        logicalSize = new Vec2(width, height);
+        setViewportSize(width, height);
+    }
+
+    public static void initFontTextures() {
+        FontManager.instance().setEvents(SoftwareRenderer.class,
+                (buffer, width, height, filter) -> SoftwareTexture.fromCoverage(buffer, width, height,
+                        TextureFilter.values()[filter]),
+                (texture, x, y, width, height, buffer, filter) ->
+                        ((SoftwareTexture) texture).updateCoverage(x, y, width, height, buffer),
+                texture -> ((SoftwareTexture) texture).release());
+    }
+
+    public static void releaseFontTextures() {
+        FontManager.instance().deleteTextures();
+        FontManager.instance().removeEvents(SoftwareRenderer.class);
+    }
+
+    public static void setPngCompressionLevel(final int level) {
+        stbi_write_png_compression_level().put(0, level);
+    }
+
+    @Override
+    public void release() {
+        for (final SoftwareRegion region : images.values())
+            region.texture().release();
+
+        images.clear();
+        framebuffer = null;
+        pngBuffer = null;
+    }
+
+    public SoftwareTexture framebuffer() {
+        return framebuffer;
+    }
+
+    public boolean writePng(final String fileName) {
+        final int w = framebuffer.pixelWidth();
+        final int h = framebuffer.pixelHeight();
+        final int[] pixels = framebuffer.pixels();
+
+        if (pngBuffer == null || pngBuffer.capacity() != w * h * 3)
+            pngBuffer = BufferUtils.createByteBuffer(w * h * 3);
+
+        for (int i = 0; i < pixels.length; ++i) {
+            final int pixel = pixels[i];
+
+            pngBuffer.put(i * 3, (byte) pixel);
+            pngBuffer.put(i * 3 + 1, (byte) (pixel >>> 8));
+            pngBuffer.put(i * 3 + 2, (byte) (pixel >>> 16));
+        }
+
+        return stbi_write_png(fileName, w, h, 3, pngBuffer, w * 3);
+    }
+
+    @Override
+    public Texture2D createTexture(final ImageData image, final TextureFilter filter) {
+        return SoftwareTexture.fromImage(image, filter);
+    }
+
+    @Override
+    public void destroyTexture(final Texture2D texture) {
+        if (texture != null)
+            ((SoftwareTexture) texture).release();
+    }
+
+    @Override
+    public IAtlasRegion acquireImage(final String key, final TextureFilter filter) {
+        if (key == null)
+            return null;
+
+        final SoftwareRegion region = images.get(imageKey(key, filter));
+
+        if (region != null)
+            ++region.references;
+
+        return region;
+    }
+
+    @Override
+    public IAtlasRegion createImage(final String key, final ImageData image, final TextureFilter filter) {
+        final String imageKey = key != null ? imageKey(key, filter) : null;
+        final var region = new SoftwareRegion(imageKey, SoftwareTexture.fromImage(image, filter));
+
+        if (imageKey != null)
+            images.put(imageKey, region);
+
+        return region;
+    }
+
+    @Override
+    public void releaseImage(final IAtlasRegion region) {
+        final var softwareRegion = (SoftwareRegion) region;
+
+        if (softwareRegion == null || --softwareRegion.references > 0)
+            return;
+
+        if (softwareRegion.key != null)
+            images.remove(softwareRegion.key);
+
+        destroyTexture(softwareRegion.texture());
+    }
+
+    @Override
+    public ILayerTarget createLayerTarget(final int width, final int height) {
+        return new SoftwareRegion(null, new SoftwareTexture(width, height, TextureFilter.Linear));
+    }
+
+    @Override
+    public void destroyLayerTarget(final ILayerTarget target) {
+        if (target != null)
+            destroyTexture(target.texture());
+    }
+
+    @Override
+    public float pixelScale() {
+        return viewport.w / logicalSize.x;
+    }
+
+    @Override
+    public void beginLayer(final ILayerTarget target, final Rect rect) {
+        final var texture = (SoftwareTexture) target.texture();
+
+        rasterizer.setTarget(texture, 0, 0, target.width(), target.height(), rect.x, rect.y, rect.w, rect.h);
+        rasterizer.clear(0);
+    }
+
+    @Override
+    public void endLayer() {
+        setMainTarget();
+    }
+
+    @Override
+    public void drawLayer(final ILayerTarget target, final Rect rect) {
+        rasterizer.setPremultipliedSource(true);
+        rasterizer.fillQuad(rect.x, rect.y, rect.w, rect.h, 0.0, (SoftwareTexture) target.texture(),
+                0.0f, 0.0f, target.width(), target.height(), layerColor.colors());
+        rasterizer.setPremultipliedSource(false);
+    }
+
+    @Override
+    public void clear() {
+        rasterizer.clear(CLEAR_COLOR);
+    }
+
+    @Override
+    public void draw(final Texture2D texture,
+                     final IntRect srcrect, final Rect dstrect, final double angle, final Color color) {
+        if (texture == null)
+            return;
+
+        if (srcrect != null) {
+            rasterizer.fillQuad(dstrect.x, dstrect.y, dstrect.w, dstrect.h, angle, (SoftwareTexture) texture,
+                    srcrect.x, srcrect.y, srcrect.w, srcrect.h, color.colors());
+        } else {
+            rasterizer.fillQuad(dstrect.x, dstrect.y, dstrect.w, dstrect.h, angle, (SoftwareTexture) texture,
+                    0.0f, 0.0f, texture.width(), texture.height(), color.colors());
+        }
+    }
+
+    @Override
+    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars) {
+        draw(text, x, y, color, visibleChars, null, 0.0f);
+    }
+
+    @Override
+    public void draw(final DrawableText text, final float x, final float y, final Color color, final int visibleChars,
+                     final Color outlineColor, final float outlineWidth) {
+        final int count = visibleChars > -1 ? Math.min(visibleChars, text.glyphCount()) : text.glyphCount();
+        final Font font = text.font();
+
+        if (!font.isSdf()) {
+            drawGlyphs(text, x, y, color, count);
+            return;
+        }
+
+        final float range = 2.0f * FontManager.SDF_SPREAD * font.scale();
+
+        if (outlineColor != null && outlineWidth > 0.0f) {
+            rasterizer.setDistanceField(range, Math.min(outlineWidth, range * 0.5f));
+            drawGlyphs(text, x, y, outlineColor, count);
+        }
+
+        rasterizer.setDistanceField(range, 0.0f);
+        drawGlyphs(text, x, y, color, count);
+        rasterizer.clearDistanceField();
+    }
+
+    private void drawGlyphs(final DrawableText text, final float x, final float y, final Color color, final int count) {
+        final float[] glyphs = text.glyphs();
+        final Color.Data colors = color.colors();
+
+        for (int start = 0; start < count; ) {
+            final int end = text.pageRunEnd(start, count);
+            final var texture = (SoftwareTexture) text.font().texture(text.page(start));
+
+            for (int i = start; i < end; ++i) {
+                final int offset = i * DrawableText.FLOATS_PER_GLYPH;
+
+                rasterizer.fillQuad(x + glyphs[offset], y + glyphs[offset + 1], glyphs[offset + 2], glyphs[offset + 3],
+                        0.0, texture, glyphs[offset + 4], glyphs[offset + 5], glyphs[offset + 6], glyphs[offset + 7],
+                        colors);
+            }
+
+            start = end;
+        }
+    }
+
+    @Override
+    public void releaseText(final DrawableText text) {
+    }
+
+    @Override
+    public void drawRect(final Rect rect, final Color color) {
+        rasterizer.fillQuad(rect.x, rect.y, rect.w, rect.h, 0.0, null, 0.0f, 0.0f, 0.0f, 0.0f, color.colors());
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void invalidate() {
+        dirty = true;
+    }
+
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    @Override
+    public void setViewportSize(final int w, final int h) {
+        if (framebuffer == null || framebuffer.pixelWidth() != w || framebuffer.pixelHeight() != h)
+            framebuffer = new SoftwareTexture(w, h, TextureFilter.Nearest);
+
+        dirty = true;
+
+        final float want_aspect = logicalSize.x / logicalSize.y;
+        final float real_aspect = (float) w / h;
+
+        if (want_aspect > real_aspect) {
+            viewport.w = w;
+            viewport.h = (int) Math.floor(logicalSize.y * w / logicalSize.x);
+            viewport.x = 0;
+            viewport.y = (h - viewport.h) / 2;
+        } else {
+            viewport.h = h;
+            viewport.w = (int) Math.floor(logicalSize.x * h / logicalSize.y);
+            viewport.x = (w - viewport.w) / 2;
+            viewport.y = 0;
+        }
+
+        setMainTarget();
+    }
+
+    @Override
+    public void setLogicalSize(final int w, final int h) {
+        logicalSize.x = w;
+        logicalSize.y = h;
+
+        setViewportSize(framebuffer.pixelWidth(), framebuffer.pixelHeight());
+    }
+
+    private void setMainTarget() {
+        rasterizer.setTarget(framebuffer, viewport.x, viewport.y, viewport.w, viewport.h,
+                0.0f, 0.0f, logicalSize.x, logicalSize.y);
+    }
+
+    private static String imageKey(final String key, final TextureFilter filter) {
+        return filter.name() + ":" + key;
+    }
+}
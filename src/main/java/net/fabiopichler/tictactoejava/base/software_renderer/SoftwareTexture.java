@@ -0,0 +1,126 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.software_renderer;
+
+import net.fabiopichler.tictactoejava.base.TextureFilter;
+import net.fabiopichler.tictactoejava.base.render.ImageData;
+import net.fabiopichler.tictactoejava.base.render.Texture2D;
+
+import java.nio.ByteBuffer;
+
+public class SoftwareTexture extends Texture2D {
+    private final int width;
+    private final int height;
+    private int[] pixels;
+    private byte[] coverage;
+    private final TextureFilter filter;
+
+    public SoftwareTexture(final int width, final int height, final TextureFilter filter) {
+        this(width, height, new int[width * height], null, filter);
+    }
+
+    private SoftwareTexture(final int width, final int height, final int[] pixels, final byte[] coverage,
+                            final TextureFilter filter) {
+        super(0, width, height);
+
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+        this.coverage = coverage;
+        this.filter = filter;
+    }
+
+    public static SoftwareTexture fromImage(final ImageData image, final TextureFilter filter) {
+        final int[] pixels = new int[image.width * image.height];
+        final boolean bgr = image.rmask != 0x000000ff;
+
+        for (int y = 0; y < image.height; ++y) {
+            int offset = y * image.pitch;
+
+            for (int x = 0; x < image.width; ++x) {
+                final int c0 = image.buffer.get(offset) & 0xff;
+                final int c1 = image.buffer.get(offset + 1) & 0xff;
+                final int c2 = image.buffer.get(offset + 2) & 0xff;
+                final int a = image.bytesPerPixel == 4 ? image.buffer.get(offset + 3) & 0xff : 0xff;
+                final int r = bgr ? c2 : c0;
+                final int b = bgr ? c0 : c2;
+
+                pixels[y * image.width + x] = r | (c1 << 8) | (b << 16) | (a << 24);
+                offset += image.bytesPerPixel;
+            }
+        }
+
+        return new SoftwareTexture(image.width, image.height, pixels, null, filter);
+    }
+
+    public static SoftwareTexture fromCoverage(final ByteBuffer buffer, final int width, final int height,
+                                               final TextureFilter filter) {
+        final byte[] coverage = new byte[width * height];
+        final ByteBuffer source = buffer.duplicate();
+
+        source.position(0);
+        source.get(coverage);
+
+        return new SoftwareTexture(width, height, null, coverage, filter);
+    }
+
+    public void updateCoverage(final int x, final int y, final int width, final int height, final ByteBuffer buffer) {
+        final ByteBuffer source = buffer.duplicate();
+
+        for (int row = 0; row < height; ++row) {
+            source.position(row * width);
+            source.get(coverage, (y + row) * this.width + x, width);
+        }
+    }
+
+    public void release() {
+        pixels = null;
+        coverage = null;
+    }
+
+    public int pixelWidth() {
+        return width;
+    }
+
+    public int pixelHeight() {
+        return height;
+    }
+
+    public int[] pixels() {
+        return pixels;
+    }
+
+    public byte[] coverage() {
+        return coverage;
+    }
+
+    public boolean isCoverage() {
+        return coverage != null;
+    }
+
+    public TextureFilter filter() {
+        return filter;
+    }
+}
@@ -0,0 +1,203 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.utils;
+
+import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SkylinePacker {
+    private static class Node {
+        public int x;
+        public int y;
+        public int width;
+
+        public Node(final int x, final int y, final int width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final List<Node> skyline = new ArrayList<>();
+    private int usedArea;
+
+    public SkylinePacker(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+
+        reset();
+    }
+
+    public void reset() {
+        skyline.clear();
+        skyline.add(new Node(0, 0, width));
+        usedArea = 0;
+    }
+
+    public int[] skyline() {
+        final int[] nodes = new int[skyline.size() * 3];
+
+        for (int i = 0; i < skyline.size(); ++i) {
+            final Node node = skyline.get(i);
+
+            nodes[i * 3] = node.x;
+            nodes[i * 3 + 1] = node.y;
+            nodes[i * 3 + 2] = node.width;
+        }
+
+        return nodes;
+    }
+
+    public void restore(final int[] nodes, final int usedArea) {
+        if (nodes.length == 0 || nodes.length % 3 != 0 || usedArea < 0 || usedArea > width * height)
+            throw new IllegalArgumentException("Invalid skyline");
+
+        for (int i = 0, x = 0; i < nodes.length; i += 3) {
+            if (nodes[i] != x || nodes[i + 1] < 0 || nodes[i + 1] > height || nodes[i + 2] <= 0)
+                throw new IllegalArgumentException("Invalid skyline");
+
+            x += nodes[i + 2];
+
+            if (i + 3 == nodes.length && x != width)
+                throw new IllegalArgumentException("Invalid skyline");
+        }
+
+        skyline.clear();
+
+        for (int i = 0; i < nodes.length; i += 3)
+            skyline.add(new Node(nodes[i], nodes[i + 1], nodes[i + 2]));
+
+        this.usedArea = usedArea;
+    }
+
+    public boolean pack(final int w, final int h, final IntVec2 position) {
+        if (w <= 0 || h <= 0 || w > width || h > height)
+            return false;
+
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+
+        for (int i = 0; i < skyline.size(); ++i) {
+            final int y = fit(i, w, h);
+
+            if (y == -1)
+                continue;
+
+            final Node node = skyline.get(i);
+
+            if (y + h < bestTop || (y + h == bestTop && node.width < bestWidth)) {
+                bestIndex = i;
+                bestTop = y + h;
+                bestWidth = node.width;
+                bestY = y;
+            }
+        }
+
+        if (bestIndex == -1)
+            return false;
+
+        position.x = skyline.get(bestIndex).x;
+        position.y = bestY;
+
+        insert(bestIndex, position.x, bestY + h, w);
+        usedArea += w * h;
+
+        return true;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int usedArea() {
+        return usedArea;
+    }
+
+    private int fit(final int index, final int w, final int h) {
+        final int x = skyline.get(index).x;
+
+        if (x + w > width)
+            return -1;
+
+        int remaining = w;
+        int y = 0;
+
+        for (int i = index; remaining > 0; ++i) {
+            final Node node = skyline.get(i);
+
+            y = Math.max(y, node.y);
+
+            if (y + h > height)
+                return -1;
+
+            remaining -= node.width;
+        }
+
+        return y;
+    }
+
+    private void insert(final int index, final int x, final int y, final int w) {
+        skyline.add(index, new Node(x, y, w));
+
+        for (int i = index + 1; i < skyline.size(); ) {
+            final Node previous = skyline.get(i - 1);
+            final Node node = skyline.get(i);
+            final int overlap = previous.x + previous.width - node.x;
+
+            if (overlap <= 0)
+                break;
+
+            node.x += overlap;
+            node.width -= overlap;
+
+            if (node.width > 0)
+                break;
+
+            skyline.remove(i);
+        }
+
+        for (int i = 0; i < skyline.size() - 1; ) {
+            final Node node = skyline.get(i);
+            final Node next = skyline.get(i + 1);
+
+            if (node.y == next.y) {
+                node.width += next.width;
+                skyline.remove(i + 1);
+            } else {
+                ++i;
+            }
+        }
+    }
+}
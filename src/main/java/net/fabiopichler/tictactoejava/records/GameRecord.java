@@ -0,0 +1,73 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.records;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+public class GameRecord {
+    public static final int BYTES = Long.BYTES;
+    public static final int MAX_MOVES = 9;
+
+    private static final int MOVE_BITS = 4;
+    private static final int COUNT_SHIFT = MAX_MOVES * MOVE_BITS;
+    private static final int RESULT_SHIFT = COUNT_SHIFT + 4;
+
+    public static boolean supports(final BitBoard board) {
+        return board.cells() <= MAX_MOVES;
+    }
+
+    public static long pack(final BitBoard board) {
+        if (!supports(board))
+            throw new IllegalArgumentException("Board too large for a game record: " + board.cells() + " cells");
+
+        long record = 0;
+
+        for (int i = 0; i < board.moveCount(); ++i)
+            record |= (long) board.move(i) << (i * MOVE_BITS);
+
+        return record | ((long) board.moveCount() << COUNT_SHIFT) | ((long) board.result() << RESULT_SHIFT);
+    }
+
+    public static int moveCount(final long record) {
+        return (int) (record >>> COUNT_SHIFT) & 0xf;
+    }
+
+    public static int move(final long record, final int index) {
+        return (int) (record >>> (index * MOVE_BITS)) & 0xf;
+    }
+
+    public static int result(final long record) {
+        return (int) (record >>> RESULT_SHIFT) & 0x3;
+    }
+
+    public static void replay(final long record, final BitBoard board) {
+        board.reset();
+
+        for (int i = 0; i < moveCount(record); ++i)
+            if (!board.play(move(record, i)))
+                throw new IllegalArgumentException("Invalid game record: " + Long.toHexString(record));
+    }
+}
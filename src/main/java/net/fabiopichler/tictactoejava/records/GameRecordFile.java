@@ -0,0 +1,66 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.records;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+class GameRecordFile {
+    static final int HEADER_BYTES = 16;
+
+    private static final int MAGIC = 0x43455247;
+    private static final int VERSION = 1;
+
+    static long offset(final long index) {
+        return HEADER_BYTES + index * GameRecord.BYTES;
+    }
+
+    static ByteBuffer putHeader(final ByteBuffer header, final long count) {
+        return header.putInt(MAGIC).putInt(VERSION).putLong(count);
+    }
+
+    static long readCount(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (header.hasRemaining())
+            if (channel.read(header, header.position()) < 0)
+                throw new IOException("Truncated game record header");
+
+        header.flip();
+
+        if (header.getInt() != MAGIC || header.getInt() != VERSION)
+            throw new IOException("Not a game record file");
+
+        final long count = header.getLong();
+
+        if (count < 0 || offset(count) > channel.size())
+            throw new IOException("Game record header counts " + count + " records past the end of the file");
+
+        return count;
+    }
+}
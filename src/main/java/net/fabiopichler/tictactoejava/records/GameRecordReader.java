@@ -0,0 +1,92 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.records;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class GameRecordReader implements AutoCloseable {
+    private static final int REGION_SHIFT = 30;
+    private static final long REGION_BYTES = 1L << REGION_SHIFT;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] regions;
+    private final long count;
+
+    public GameRecordReader(final Path path) throws IOException {
+        channel = FileChannel.open(path, READ);
+
+        try {
+            count = GameRecordFile.readCount(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        final long bytes = count * GameRecord.BYTES;
+        regions = new MappedByteBuffer[(int) ((bytes + REGION_BYTES - 1) >>> REGION_SHIFT)];
+
+        for (int i = 0; i < regions.length; ++i) {
+            final long start = (long) i << REGION_SHIFT;
+
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, GameRecordFile.HEADER_BYTES + start, Math.min(REGION_BYTES, bytes - start));
+            regions[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long get(final long index) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Record " + index + " of " + count);
+
+        final long offset = index * GameRecord.BYTES;
+
+        return regions[(int) (offset >>> REGION_SHIFT)].getLong((int) (offset & (REGION_BYTES - 1)));
+    }
+
+    public void forEach(final LongConsumer consumer) {
+        for (final MappedByteBuffer region : regions) {
+            final int limit = region.limit();
+
+            for (int position = 0; position < limit; position += GameRecord.BYTES)
+                consumer.accept(region.getLong(position));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,149 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.records;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+public class GameRecordWriter implements AutoCloseable {
+    private static final int BUFFER_BYTES = 64 << 10;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ByteBuffer header;
+    private long count;
+    private long committed;
+    private boolean closed;
+
+    public GameRecordWriter(final Path path) throws IOException {
+        channel = FileChannel.open(path, CREATE, READ, WRITE);
+        buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header = ByteBuffer.allocate(GameRecordFile.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            count = channel.size() == 0 ? 0 : GameRecordFile.readCount(channel);
+            committed = count;
+
+            channel.truncate(GameRecordFile.offset(count));
+            writeHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public synchronized void append(final long record) throws IOException {
+        ensureOpen();
+
+        if (!buffer.hasRemaining())
+            drain();
+
+        buffer.putLong(record);
+        ++count;
+    }
+
+    public synchronized void append(final long[] records, final int length) throws IOException {
+        ensureOpen();
+
+        for (int i = 0; i < length; ++i) {
+            if (!buffer.hasRemaining())
+                drain();
+
+            buffer.putLong(records[i]);
+            ++count;
+        }
+    }
+
+    public void append(final BitBoard board) throws IOException {
+        append(GameRecord.pack(board));
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        commit();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+
+        closed = true;
+
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("Game record writer is closed");
+    }
+
+    private void drain() throws IOException {
+        final long position = GameRecordFile.offset(count - buffer.position() / GameRecord.BYTES);
+
+        buffer.flip();
+
+        for (long offset = position; buffer.hasRemaining(); )
+            offset += channel.write(buffer, offset);
+
+        buffer.clear();
+    }
+
+    private void commit() throws IOException {
+        drain();
+
+        if (committed == count)
+            return;
+
+        channel.force(false);
+        committed = count;
+
+        writeHeader();
+        channel.force(false);
+    }
+
+    private void writeHeader() throws IOException {
+        GameRecordFile.putHeader(header.clear(), committed).flip();
+
+        for (long offset = 0; header.hasRemaining(); )
+            offset += channel.write(header, offset);
+    }
+}
@@ -0,0 +1,332 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.rules;
+
+import java.util.Arrays;
+
+public class BitBoard {
+    public static final int NONE = 0;
+    public static final int PLAYER_1 = 1;
+    public static final int PLAYER_2 = 2;
+    public static final int TIED = 3;
+
+    private static final int[] DIRECTION_X = { 1, 0, 1, 1 };
+    private static final int[] DIRECTION_Y = { 0, 1, 1, -1 };
+
+    private final int width;
+    private final int height;
+    private final int k;
+    private final int cells;
+    private final long[][] boards;
+    private final long[][] cellLines;
+    private final int[] history;
+    private final Zobrist zobrist;
+    private final long[] hashes;
+    private int currentPlayer = PLAYER_1;
+    private int moveCount;
+    private int result = NONE;
+
+    public BitBoard() {
+        this(3, 3, 3);
+    }
+
+    public BitBoard(final int width, final int height, final int k) {
+        if (width < 1 || height < 1 || k < 1 || k > Math.max(width, height))
+            throw new IllegalArgumentException("Invalid board: " + width + "x" + height + " k=" + k);
+
+        this.width = width;
+        this.height = height;
+        this.k = k;
+        this.cells = width * height;
+        this.boards = new long[3][(cells + 63) >>> 6];
+        this.cellLines = cells <= 64 ? createCellLines() : null;
+        this.history = new int[cells];
+        this.zobrist = new Zobrist(width, height);
+        this.hashes = new long[zobrist.symmetryCount()];
+    }
+
+    public BitBoard(final BitBoard other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.k = other.k;
+        this.cells = other.cells;
+        this.boards = new long[3][];
+        this.cellLines = other.cellLines;
+        this.history = other.history.clone();
+        this.zobrist = other.zobrist;
+        this.hashes = other.hashes.clone();
+        this.currentPlayer = other.currentPlayer;
+        this.moveCount = other.moveCount;
+        this.result = other.result;
+
+        for (int i = 0; i < boards.length; ++i)
+            boards[i] = other.boards[i].clone();
+    }
+
+    public void reset() {
+        for (final long[] board : boards)
+            Arrays.fill(board, 0L);
+
+        Arrays.fill(hashes, 0L);
+
+        currentPlayer = PLAYER_1;
+        moveCount = 0;
+        result = NONE;
+    }
+
+    public boolean play(final int cell) {
+        if (result != NONE || cell < 0 || cell >= cells || !isEmpty(cell))
+            return false;
+
+        boards[currentPlayer][cell >>> 6] |= 1L << cell;
+        history[moveCount++] = cell;
+        updateHashes(currentPlayer, cell);
+
+        if (hasLine(currentPlayer, cell))
+            result = currentPlayer;
+        else if (moveCount == cells)
+            result = TIED;
+
+        currentPlayer = currentPlayer == PLAYER_1 ? PLAYER_2 : PLAYER_1;
+
+        return true;
+    }
+
+    public void undo() {
+        if (moveCount == 0)
+            return;
+
+        final int cell = history[--moveCount];
+
+        currentPlayer = currentPlayer == PLAYER_1 ? PLAYER_2 : PLAYER_1;
+        boards[currentPlayer][cell >>> 6] &= ~(1L << cell);
+        updateHashes(currentPlayer, cell);
+        result = NONE;
+    }
+
+    public boolean isWinningMove(final int cell, final int player) {
+        if (!isEmpty(cell))
+            return false;
+
+        final long bit = 1L << cell;
+        final int word = cell >>> 6;
+
+        boards[player][word] |= bit;
+        final boolean win = hasLine(player, cell);
+        boards[player][word] &= ~bit;
+
+        return win;
+    }
+
+    public long hash() {
+        return hashes[0];
+    }
+
+    public long canonicalHash() {
+        long hash = hashes[0];
+
+        for (int s = 1; s < hashes.length; ++s)
+            hash = Math.min(hash, hashes[s]);
+
+        return hash;
+    }
+
+    public int canonicalSymmetry() {
+        int symmetry = 0;
+
+        for (int s = 1; s < hashes.length; ++s)
+            if (hashes[s] < hashes[symmetry])
+                symmetry = s;
+
+        return symmetry;
+    }
+
+    public Zobrist zobrist() {
+        return zobrist;
+    }
+
+    public boolean isEmpty(final int cell) {
+        final long bit = 1L << cell;
+        final int word = cell >>> 6;
+
+        return ((boards[PLAYER_1][word] | boards[PLAYER_2][word]) & bit) == 0;
+    }
+
+    public int owner(final int cell) {
+        if (isSet(PLAYER_1, cell))
+            return PLAYER_1;
+
+        if (isSet(PLAYER_2, cell))
+            return PLAYER_2;
+
+        return NONE;
+    }
+
+    public long word(final int player, final int index) {
+        return boards[player][index];
+    }
+
+    public int cell(final int column, final int row) {
+        return row * width + column;
+    }
+
+    public int column(final int cell) {
+        return cell % width;
+    }
+
+    public int row(final int cell) {
+        return cell / width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    public int cells() {
+        return cells;
+    }
+
+    public int currentPlayer() {
+        return currentPlayer;
+    }
+
+    public int moveCount() {
+        return moveCount;
+    }
+
+    public int move(final int index) {
+        return history[index];
+    }
+
+    public int lastMove() {
+        return moveCount > 0 ? history[moveCount - 1] : -1;
+    }
+
+    public int result() {
+        return result;
+    }
+
+    private void updateHashes(final int player, final int cell) {
+        final long sideKey = zobrist.sideKey();
+
+        for (int s = 0; s < hashes.length; ++s)
+            hashes[s] ^= zobrist.key(s, player, cell) ^ sideKey;
+    }
+
+    private boolean isSet(final int player, final int cell) {
+        return (boards[player][cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private boolean hasLine(final int player, final int cell) {
+        if (cellLines != null) {
+            final long board = boards[player][0];
+
+            for (final long line : cellLines[cell])
+                if ((board & line) == line)
+                    return true;
+
+            return false;
+        }
+
+        final int x = column(cell);
+        final int y = row(cell);
+
+        for (int dir = 0; dir < DIRECTION_X.length; ++dir) {
+            final int dx = DIRECTION_X[dir];
+            final int dy = DIRECTION_Y[dir];
+            final int count = 1 + countStones(player, x, y, dx, dy) + countStones(player, x, y, -dx, -dy);
+
+            if (count >= k)
+                return true;
+        }
+
+        return false;
+    }
+
+    private int countStones(final int player, final int x, final int y, final int dx, final int dy) {
+        int count = 0;
+        int cx = x + dx;
+        int cy = y + dy;
+
+        while (count < k - 1 && cx >= 0 && cx < width && cy >= 0 && cy < height && isSet(player, cy * width + cx)) {
+            ++count;
+            cx += dx;
+            cy += dy;
+        }
+
+        return count;
+    }
+
+    private long[][] createCellLines() {
+        final long[][] lines = new long[cells][];
+        final long[] windows = new long[cells * DIRECTION_X.length];
+        final int[] counts = new int[cells];
+        int windowCount = 0;
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                for (int dir = 0; dir < DIRECTION_X.length; ++dir) {
+                    final int endX = x + DIRECTION_X[dir] * (k - 1);
+                    final int endY = y + DIRECTION_Y[dir] * (k - 1);
+
+                    if (endX < 0 || endX >= width || endY < 0 || endY >= height)
+                        continue;
+
+                    long mask = 0;
+
+                    for (int i = 0; i < k; ++i)
+                        mask |= 1L << cell(x + DIRECTION_X[dir] * i, y + DIRECTION_Y[dir] * i);
+
+                    windows[windowCount++] = mask;
+
+                    for (int c = 0; c < cells; ++c)
+                        if ((mask & (1L << c)) != 0)
+                            ++counts[c];
+                }
+            }
+        }
+
+        for (int c = 0; c < cells; ++c) {
+            lines[c] = new long[counts[c]];
+            counts[c] = 0;
+        }
+
+        for (int w = 0; w < windowCount; ++w)
+            for (int c = 0; c < cells; ++c)
+                if ((windows[w] & (1L << c)) != 0)
+                    lines[c][counts[c]++] = windows[w];
+
+        return lines;
+    }
+}
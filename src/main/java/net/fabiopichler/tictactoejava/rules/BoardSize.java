@@ -0,0 +1,79 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.rules;
+
+public class BoardSize {
+    public static final BoardSize CLASSIC = new BoardSize(3, 3, 3);
+
+    public final int columns;
+    public final int rows;
+    public final int k;
+
+    public BoardSize(final int columns, final int rows, final int k) {
+        if (columns < 1 || rows < 1 || k < 1 || k > Math.max(columns, rows))
+            throw new IllegalArgumentException("Invalid board: " + columns + "x" + rows + " k=" + k);
+
+        this.columns = columns;
+        this.rows = rows;
+        this.k = k;
+    }
+
+    public static BoardSize parse(final String text) {
+        final String[] size = text.split("x");
+
+        if (size.length != 3)
+            throw new IllegalArgumentException("Invalid board: " + text + " (expected WxHxK, e.g. 15x15x5)");
+
+        try {
+            return new BoardSize(Integer.parseInt(size[0]), Integer.parseInt(size[1]), Integer.parseInt(size[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid board: " + text + " (expected WxHxK, e.g. 15x15x5)");
+        }
+    }
+
+    public int cells() {
+        return columns * rows;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof BoardSize))
+            return false;
+
+        final BoardSize size = (BoardSize) other;
+
+        return columns == size.columns && rows == size.rows && k == size.k;
+    }
+
+    @Override
+    public int hashCode() {
+        return (columns * 31 + rows) * 31 + k;
+    }
+
+    @Override
+    public String toString() {
+        return columns + "x" + rows + "x" + k;
+    }
+}
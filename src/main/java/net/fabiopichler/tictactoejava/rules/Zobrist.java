@@ -0,0 +1,105 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.rules;
+
+import java.util.SplittableRandom;
+
+public class Zobrist {
+    private final int cells;
+    private final int[][] symmetries;
+    private final int[][] inverses;
+    private final long[][] keys;
+    private final long sideKey;
+
+    public Zobrist(final int width, final int height) {
+        this.cells = width * height;
+
+        final int count = width == height ? 8 : 4;
+        final int lastX = width - 1;
+        final int lastY = height - 1;
+
+        symmetries = new int[count][cells];
+        inverses = new int[count][cells];
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                final int cell = y * width + x;
+
+                symmetries[0][cell] = cell;
+                symmetries[1][cell] = y * width + (lastX - x);
+                symmetries[2][cell] = (lastY - y) * width + x;
+                symmetries[3][cell] = (lastY - y) * width + (lastX - x);
+
+                if (count == 8) {
+                    symmetries[4][cell] = x * width + y;
+                    symmetries[5][cell] = x * width + (lastY - y);
+                    symmetries[6][cell] = (lastX - x) * width + y;
+                    symmetries[7][cell] = (lastX - x) * width + (lastY - y);
+                }
+            }
+        }
+
+        for (int s = 0; s < count; ++s)
+            for (int cell = 0; cell < cells; ++cell)
+                inverses[s][symmetries[s][cell]] = cell;
+
+        final var random = new SplittableRandom(0x7ac7ac70eL ^ ((long) width << 32) ^ height);
+        final long[] baseKeys = new long[2 * cells];
+
+        for (int i = 0; i < baseKeys.length; ++i)
+            baseKeys[i] = random.nextLong();
+
+        sideKey = random.nextLong();
+        keys = new long[count][2 * cells];
+
+        for (int s = 0; s < count; ++s) {
+            for (int cell = 0; cell < cells; ++cell) {
+                keys[s][cell] = baseKeys[symmetries[s][cell]];
+                keys[s][cells + cell] = baseKeys[cells + symmetries[s][cell]];
+            }
+        }
+    }
+
+    public int symmetryCount() {
+        return symmetries.length;
+    }
+
+    public long key(final int symmetry, final int player, final int cell) {
+        return keys[symmetry][(player - 1) * cells + cell];
+    }
+
+    public long sideKey() {
+        return sideKey;
+    }
+
+    public int map(final int cell, final int symmetry) {
+        return symmetries[symmetry][cell];
+    }
+
+    public int unmap(final int cell, final int symmetry) {
+        return inverses[symmetry][cell];
+    }
+}
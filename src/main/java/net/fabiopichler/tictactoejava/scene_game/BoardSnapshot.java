@@ -0,0 +1,64 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.scene_game;
+
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+import net.fabiopichler.tictactoejava.scene_game.board.GameBoard;
+
+public class BoardSnapshot {
+    private final IRenderer renderer;
+    private final GameScreen screen;
+    private final Header header;
+    private final GameBoard gameBoard;
+
+    public BoardSnapshot(final IRenderer renderer, final int width, final int height,
+                         final int boardColumns, final int boardRows, final int boardK) {
+        this.renderer = renderer;
+
+        screen = new GameScreen(renderer, width, height);
+        header = screen.header();
+        screen.footer().setBoardText(new BoardSize(boardColumns, boardRows, boardK).toString());
+
+        gameBoard = new GameBoard(renderer, screen.rect(), boardColumns, boardRows, boardK);
+    }
+
+    public void release() {
+        gameBoard.release();
+        screen.release();
+    }
+
+    public void render(final BitBoard position) {
+        gameBoard.replay(position);
+        header.setCurrentPlayer(gameBoard.getCurrentPlayer(), gameBoard.getGameResult());
+        header.update(1.0);
+
+        renderer.clear();
+        screen.draw(gameBoard);
+        renderer.flush();
+        renderer.clearDirty();
+    }
+}
@@ -25,32 +25,57 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.scene_game;
 
 import net.fabiopichler.tictactoejava.base.drawables.Button;
+import net.fabiopichler.tictactoejava.base.drawables.FontSize;
+import net.fabiopichler.tictactoejava.base.drawables.Layer;
 import net.fabiopichler.tictactoejava.base.Event;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 import net.fabiopichler.tictactoejava.base.drawables.Text;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 
 public class Footer extends GameComponent {
+    private static final int BUTTON_WIDTH = 110;
+    private static final int BUTTON_HEIGHT = 32;
+    private static final int BUTTON_PADDING = 40;
+    private static final int BUTTON_SPACE = 10;
+    private static final int BUTTON_COUNT = 3;
+
     private Button restartButton;
+    private Button modeButton;
+    private Button boardButton;
     private Text copyrightText;
 
-    public Footer(final OpenGLRenderer renderer, final SceneGameRect sceneGameRect) {
+    public Footer(final IRenderer renderer, final SceneGameRect sceneGameRect) {
         super(renderer, sceneGameRect);
 
         createRestartButton();
+        createModeButton();
+        createBoardButton();
         createCopyrightText();
     }
 
     public void release() {
         restartButton.release();
+        modeButton.release();
+        boardButton.release();
         copyrightText.release();
     }
 
     public void processEvent(final Event event) {
         restartButton.processEvent(event);
+        modeButton.processEvent(event);
+        boardButton.processEvent(event);
+    }
+
+    public void setLayer(final Layer layer) {
+        restartButton.setLayer(layer);
+        modeButton.setLayer(layer);
+        boardButton.setLayer(layer);
+        copyrightText.setLayer(layer);
     }
 
     public void draw() {
         restartButton.draw();
+        modeButton.draw();
+        boardButton.draw();
         copyrightText.draw();
     }
 
@@ -58,6 +83,24 @@ public class Footer extends GameComponent {
         return restartButton;
     }
 
+    public Button getModeButton() {
+        return modeButton;
+    }
+
+    public Button getBoardButton() {
+        return boardButton;
+    }
+
+    public void setModeText(final String text) {
+        modeButton.text().setText(text);
+        modeButton.update();
+    }
+
+    public void setBoardText(final String text) {
+        boardButton.text().setText(text);
+        boardButton.update();
+    }
+
     private void createRestartButton() {
         restartButton = new Button(renderer, new Text(renderer, "Reiniciar"));
 
@@ -66,21 +109,52 @@ public class Footer extends GameComponent {
         restartButton.setBackgroundPressedColor(140, 40, 160);
         restartButton.text().setColor(255, 255, 255, 0.78f);
 
-        final int width = 110;
-        final int height = 32;
-        final int padding = 40;
-
-        restartButton.setSize(width, height);
+        restartButton.setSize(BUTTON_WIDTH, BUTTON_HEIGHT);
         restartButton.setPosition(
-                sceneGameRect.sidebar_w + (int)((sceneGameRect.content_w - width) / 2),
-                sceneGameRect.window_h - height - padding);
+                buttonX(0),
+                sceneGameRect.window_h - BUTTON_HEIGHT - BUTTON_PADDING);
+    }
+
+    private void createModeButton() {
+        modeButton = new Button(renderer, new Text(renderer, "2 Jogadores"));
+
+        modeButton.setBackgroundColor(160, 40, 180);
+        modeButton.setBackgroundHoverColor(200, 50, 220);
+        modeButton.setBackgroundPressedColor(140, 40, 160);
+        modeButton.text().setColor(255, 255, 255, 0.78f);
+
+        modeButton.setSize(BUTTON_WIDTH, BUTTON_HEIGHT);
+        modeButton.setPosition(
+                buttonX(1),
+                sceneGameRect.window_h - BUTTON_HEIGHT - BUTTON_PADDING);
+    }
+
+    private void createBoardButton() {
+        boardButton = new Button(renderer, new Text(renderer, "3x3x3"));
+
+        boardButton.setBackgroundColor(160, 40, 180);
+        boardButton.setBackgroundHoverColor(200, 50, 220);
+        boardButton.setBackgroundPressedColor(140, 40, 160);
+        boardButton.text().setColor(255, 255, 255, 0.78f);
+
+        boardButton.setSize(BUTTON_WIDTH, BUTTON_HEIGHT);
+        boardButton.setPosition(
+                buttonX(2),
+                sceneGameRect.window_h - BUTTON_HEIGHT - BUTTON_PADDING);
+    }
+
+    private int buttonX(final int index) {
+        final int buttons_w = BUTTON_COUNT * BUTTON_WIDTH + (BUTTON_COUNT - 1) * BUTTON_SPACE;
+
+        return sceneGameRect.sidebar_w + (int)((sceneGameRect.content_w - buttons_w) / 2)
+                + index * (BUTTON_WIDTH + BUTTON_SPACE);
     }
 
     private void createCopyrightText() {
         copyrightText = new Text(renderer);
 
         copyrightText.setText("© 2020-2023 Fábio Pichler                       www.fabiopichler.net");
-        copyrightText.setFontSize(14);
+        copyrightText.setFontSize(FontSize.CAPTION);
         copyrightText.setColor(255, 255, 255, 0.62f);
 
         final int width = (int)copyrightText.width();
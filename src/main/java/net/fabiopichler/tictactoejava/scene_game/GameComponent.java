@@ -24,13 +24,13 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.scene_game;
 
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
+import net.fabiopichler.tictactoejava.base.IRenderer;
 
 public abstract class GameComponent {
-    protected final OpenGLRenderer renderer;
+    protected final IRenderer renderer;
     protected final SceneGameRect sceneGameRect;
 
-    public GameComponent(final OpenGLRenderer renderer, final SceneGameRect sceneGameRect) {
+    public GameComponent(final IRenderer renderer, final SceneGameRect sceneGameRect) {
         this.renderer = renderer;
         this.sceneGameRect = sceneGameRect;
     }
@@ -0,0 +1,79 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.scene_game;
+
+import net.fabiopichler.tictactoejava.ai.*;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
+
+public enum GameMode {
+    TwoPlayers("2 Jogadores"),
+    Easy("Fácil"),
+    Medium("Médio"),
+    Hard("Difícil"),
+    Mcts("MCTS");
+
+    private final String label;
+
+    GameMode(final String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public boolean isAvailable(final BoardSize boardSize) {
+        return this != Mcts || boardSize.cells() > BoardSize.CLASSIC.cells();
+    }
+
+    public GameMode next(final BoardSize boardSize) {
+        final GameMode[] values = values();
+
+        for (int i = 1; i < values.length; ++i) {
+            final GameMode mode = values[(ordinal() + i) % values.length];
+
+            if (mode.isAvailable(boardSize))
+                return mode;
+        }
+
+        return this;
+    }
+
+    public IStrategy createStrategy() {
+        switch (this) {
+            case Easy:
+                return new NegamaxStrategy(Difficulty.Easy);
+            case Medium:
+                return new NegamaxStrategy(Difficulty.Medium);
+            case Hard:
+                return new PerfectPlayStrategy(new NegamaxStrategy(Difficulty.Hard));
+            case Mcts:
+                return new MctsStrategy(250_000_000L);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.scene_game;
+
+import net.fabiopichler.tictactoejava.base.Color;
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.base.drawables.Layer;
+import net.fabiopichler.tictactoejava.base.drawables.RectangleShape;
+import net.fabiopichler.tictactoejava.scene_game.board.GameBoard;
+
+public class GameScreen {
+    private static final int SIDEBAR_WIDTH = 200;
+
+    private final SceneGameRect sceneGameRect = new SceneGameRect();
+    private final RectangleShape background;
+    private final Layer staticLayer;
+    private final Sidebar sidebar;
+    private final Header header;
+    private final Footer footer;
+
+    public GameScreen(final IRenderer renderer, final int width, final int height) {
+        sceneGameRect.window_w = width;
+        sceneGameRect.window_h = height;
+        sceneGameRect.sidebar_w = SIDEBAR_WIDTH;
+        sceneGameRect.sidebar_h = height;
+        sceneGameRect.content_w = width - sceneGameRect.sidebar_w;
+        sceneGameRect.content_h = height;
+
+        background = new RectangleShape(renderer, sceneGameRect.window_w, sceneGameRect.window_h);
+        background.setColor(new Color().top(150, 40, 170).bottom(80, 0, 100));
+
+        sidebar = new Sidebar(renderer, sceneGameRect);
+        header = new Header(renderer, sceneGameRect);
+        footer = new Footer(renderer, sceneGameRect);
+
+        staticLayer = new Layer(renderer, sceneGameRect.window_w, sceneGameRect.window_h, this::drawStaticLayer);
+        background.setLayer(staticLayer);
+        sidebar.setLayer(staticLayer);
+        footer.setLayer(staticLayer);
+    }
+
+    public void release() {
+        footer.release();
+        header.release();
+        sidebar.release();
+        staticLayer.release();
+    }
+
+    public void draw(final GameBoard gameBoard) {
+        staticLayer.draw();
+        gameBoard.draw();
+        header.draw();
+    }
+
+    public SceneGameRect rect() {
+        return sceneGameRect;
+    }
+
+    public Sidebar sidebar() {
+        return sidebar;
+    }
+
+    public Header header() {
+        return header;
+    }
+
+    public Footer footer() {
+        return footer;
+    }
+
+    private void drawStaticLayer() {
+        background.draw();
+        footer.draw();
+        sidebar.draw();
+    }
+}
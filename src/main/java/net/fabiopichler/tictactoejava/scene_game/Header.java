@@ -25,11 +25,11 @@ SOFTWARE.
 package net.fabiopichler.tictactoejava.scene_game;
 
 import net.fabiopichler.tictactoejava.base.*;
+import net.fabiopichler.tictactoejava.base.drawables.FontSize;
 import net.fabiopichler.tictactoejava.base.drawables.Image;
 import net.fabiopichler.tictactoejava.base.drawables.RectangleShape;
 import net.fabiopichler.tictactoejava.base.drawables.Text;
 import net.fabiopichler.tictactoejava.base.freetype.FontType;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 import net.fabiopichler.tictactoejava.scene_game.board.Player;
 
 public class Header extends GameComponent {
@@ -47,8 +47,9 @@ public class Header extends GameComponent {
     private Image player2Icon;
     private Player currentPlayer = Player.Player_1;
     private Player gameResult = Player.None;
+    private String player2Name = "jogador 2";
 
-    public Header(final OpenGLRenderer renderer, final SceneGameRect sceneGameRect) {
+    public Header(final IRenderer renderer, final SceneGameRect sceneGameRect) {
         super(renderer, sceneGameRect);
 
         final float w = 134;
@@ -106,12 +107,13 @@ public class Header extends GameComponent {
     public void setCurrentPlayer(final Player currentPlayer, final Player gameResult) {
         this.currentPlayer = currentPlayer;
         this.gameResult = gameResult;
+        renderer.invalidate();
 
         if (gameResult == Player.Player_1)
             result.setText("Vitória do jogador 1");
 
         else if (gameResult == Player.Player_2)
-            result.setText("Vitória do jogador 2");
+            result.setText("Vitória do " + player2Name);
 
         else if (gameResult == Player.Tied)
             result.setText("Deu empate!");
@@ -120,10 +122,17 @@ public class Header extends GameComponent {
             setupResultText();
     }
 
+    public void setPlayer2Name(final String name) {
+        player2Name = name.toLowerCase();
+        player2.setText(name);
+
+        setupPlayer2Text();
+    }
+
     private void createResultText() {
         result = new Text(renderer);
         result.setText("...");
-        result.setFontSize(24);
+        result.setFontSize(FontSize.LARGE);
         result.setFontType(FontType.Bold);
         result.setColor(180, 40, 200);
 
@@ -148,7 +157,7 @@ public class Header extends GameComponent {
     private void createPlayer1Text() {
         player1 = new Text(renderer);
         player1.setText("Jogador 1");
-        player1.setFontSize(20);
+        player1.setFontSize(FontSize.MEDIUM);
         player1.setFontType(FontType.Bold);
         player1.setColor(255, 255, 255, 0.78f);
 
@@ -162,7 +171,7 @@ public class Header extends GameComponent {
     private void createPlayer2Text() {
         player2 = new Text(renderer);
         player2.setText("Jogador 2");
-        player2.setFontSize(20);
+        player2.setFontSize(FontSize.MEDIUM);
         player2.setFontType(FontType.Bold);
         player2.setColor(255, 255, 255, 0.78f);
 
@@ -24,43 +24,65 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.scene_game;
 
+import net.fabiopichler.tictactoejava.ai.ComputerPlayer;
 import net.fabiopichler.tictactoejava.base.*;
 import net.fabiopichler.tictactoejava.base.drawables.Button;
-import net.fabiopichler.tictactoejava.base.drawables.RectangleShape;
 import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
+import net.fabiopichler.tictactoejava.records.GameRecord;
+import net.fabiopichler.tictactoejava.records.GameRecordWriter;
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+import net.fabiopichler.tictactoejava.rules.BoardSize;
 import net.fabiopichler.tictactoejava.scene_game.board.GameBoard;
 import net.fabiopichler.tictactoejava.scene_game.board.Player;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.lwjgl.glfw.GLFW.*;
+
 public class SceneGame extends Scene {
-    private final SceneGameRect sceneGameRect = new SceneGameRect();
-    private RectangleShape background;
+    private static final String RECORDS_PROPERTY = "tictactoe.records";
+    private static final List<BoardSize> BOARD_SIZES = List.of(
+            BoardSize.CLASSIC, new BoardSize(5, 5, 4), new BoardSize(7, 7, 5), new BoardSize(15, 15, 5));
+
+    private GameScreen screen;
     private GameBoard gameBoard;
     private Sidebar sidebar;
     private Header header;
     private Footer footer;
+    private ComputerPlayer computerPlayer;
+    private GameRecordWriter recordWriter;
+    private BoardSize boardSize;
+    private GameMode gameMode = GameMode.TwoPlayers;
     private int player1WinCount;
     private int player2WinCount;
     private int tiedCount;
 
+    public SceneGame() {
+        this(3, 3, 3);
+    }
+
+    public SceneGame(final int boardColumns, final int boardRows, final int boardK) {
+        boardSize = new BoardSize(boardColumns, boardRows, boardK);
+    }
+
     @Override
     public void onCreate() {
         final IntVec2 windowSize = window.size();
 
-        sceneGameRect.window_w = windowSize.x;
-        sceneGameRect.window_h = windowSize.y;
-        sceneGameRect.sidebar_w = 200;
-        sceneGameRect.sidebar_h = windowSize.y;
-        sceneGameRect.content_w = windowSize.x - sceneGameRect.sidebar_w;
-        sceneGameRect.content_h = windowSize.y;
-
-        background = new RectangleShape(renderer, sceneGameRect.window_w, sceneGameRect.window_h);
-        background.setColor(new Color().top(150, 40, 170).bottom(80, 0, 100));
+        screen = new GameScreen(renderer, windowSize.x, windowSize.y);
+        sidebar = screen.sidebar();
+        header = screen.header();
+        footer = screen.footer();
 
-        sidebar = new Sidebar(renderer, sceneGameRect);
-        header = new Header(renderer, sceneGameRect);
-
-        footer = new Footer(renderer, sceneGameRect);
         footer.getRestartButton().setOnPressEvent(this::onPressed);
+        footer.getModeButton().setOnPressEvent(this::onModePressed);
+        footer.getBoardButton().setOnPressEvent(this::onBoardPressed);
+        footer.setBoardText(boardSize.toString());
+
+        computerPlayer = new ComputerPlayer(null);
+        recordWriter = openRecordWriter();
 
         newGame();
     }
@@ -68,13 +90,16 @@ public class SceneGame extends Scene {
     @Override
     public void onDestroy() {
         gameBoard.release();
-        footer.release();
-        header.release();
-        sidebar.release();
+        screen.release();
+        computerPlayer.release();
+        closeRecordWriter();
     }
 
     @Override
     public void onProcessEvent(Event event) {
+        if (event.type == Event.Type.Key && event.key.action == GLFW_PRESS && event.key.key == GLFW_KEY_H)
+            gameBoard.showHint();
+
         header.processEvent(event);
         footer.processEvent(event);
         gameBoard.processEvent(event);
@@ -86,35 +111,105 @@ public class SceneGame extends Scene {
         gameBoard.update(deltaTime);
     }
 
+    @Override
+    public boolean needsUpdate() {
+        return gameBoard.isComputerThinking();
+    }
+
     @Override
     public void onDraw() {
-        background.draw();
-        gameBoard.draw();
-        header.draw();
-        footer.draw();
-        sidebar.draw();
+        screen.draw(gameBoard);
     }
 
     private void newGame() {
         if (gameBoard != null)
             gameBoard.release();
 
-        gameBoard = new GameBoard(renderer, sceneGameRect);
+        gameBoard = new GameBoard(renderer, screen.rect(), boardSize.columns, boardSize.rows, boardSize.k);
         gameBoard.setGameEvent(this::onGameEvent);
 
+        if (gameMode != GameMode.TwoPlayers)
+            gameBoard.setComputerPlayer(computerPlayer);
+
         header.setCurrentPlayer(Player.Player_1, Player.None);
     }
 
+    private static GameRecordWriter openRecordWriter() {
+        final String path = System.getProperty(RECORDS_PROPERTY);
+
+        if (path == null || path.isEmpty())
+            return null;
+
+        try {
+            return new GameRecordWriter(Path.of(path));
+        } catch (IOException e) {
+            System.err.println("Could not open game records: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveRecord(final BitBoard position) {
+        if (recordWriter == null || !GameRecord.supports(position))
+            return;
+
+        try {
+            recordWriter.append(position);
+            recordWriter.flush();
+        } catch (IOException e) {
+            System.err.println("Could not save game record: " + e.getMessage());
+            closeRecordWriter();
+        }
+    }
+
+    private void closeRecordWriter() {
+        if (recordWriter == null)
+            return;
+
+        try {
+            recordWriter.close();
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+        }
+
+        recordWriter = null;
+    }
+
     private void onPressed(final Button button) {
         newGame();
     }
 
+    private void onModePressed(final Button button) {
+        setGameMode(gameMode.next(boardSize));
+        newGame();
+    }
+
+    private void onBoardPressed(final Button button) {
+        boardSize = BOARD_SIZES.get((BOARD_SIZES.indexOf(boardSize) + 1) % BOARD_SIZES.size());
+        footer.setBoardText(boardSize.toString());
+
+        if (!gameMode.isAvailable(boardSize))
+            setGameMode(gameMode.next(boardSize));
+
+        newGame();
+    }
+
+    private void setGameMode(final GameMode gameMode) {
+        this.gameMode = gameMode;
+
+        computerPlayer.setStrategy(gameMode.createStrategy());
+        footer.setModeText(gameMode.label());
+        header.setPlayer2Name(gameMode != GameMode.TwoPlayers ? "Computador" : "Jogador 2");
+    }
+
     private void onGameEvent(final GameBoard gameBoard){
         final Player player = gameBoard.getCurrentPlayer();
         final Player gameResult = gameBoard.getGameResult();
 
         header.setCurrentPlayer(player, gameResult);
 
+        if (gameResult != Player.None)
+            saveRecord(gameBoard.position());
+
         if (gameResult == Player.Player_1)
             sidebar.setPlayer1WinText(++player1WinCount);
 
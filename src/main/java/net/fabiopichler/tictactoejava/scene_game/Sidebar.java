@@ -24,10 +24,12 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.scene_game;
 
+import net.fabiopichler.tictactoejava.base.IRenderer;
+import net.fabiopichler.tictactoejava.base.drawables.FontSize;
+import net.fabiopichler.tictactoejava.base.drawables.Layer;
 import net.fabiopichler.tictactoejava.base.drawables.RectangleShape;
 import net.fabiopichler.tictactoejava.base.drawables.Text;
 import net.fabiopichler.tictactoejava.base.freetype.FontType;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 
 public class Sidebar extends GameComponent {
     private RectangleShape background;
@@ -48,7 +50,7 @@ public class Sidebar extends GameComponent {
     private int tied_y;
     private int tiedCount_y;
 
-    public Sidebar(final OpenGLRenderer renderer, final SceneGameRect sceneGameRect) {
+    public Sidebar(final IRenderer renderer, final SceneGameRect sceneGameRect) {
         super(renderer, sceneGameRect);
 
         setupSizes();
@@ -64,6 +66,20 @@ public class Sidebar extends GameComponent {
         tiedCountText.release();
     }
 
+    public void setLayer(final Layer layer) {
+        background.setLayer(layer);
+        verticalLine.setLayer(layer);
+        horizontalLine1.setLayer(layer);
+        horizontalLine2.setLayer(layer);
+
+        player1Text.setLayer(layer);
+        player1WinText.setLayer(layer);
+        player2Text.setLayer(layer);
+        player2WinText.setLayer(layer);
+        tiedText.setLayer(layer);
+        tiedCountText.setLayer(layer);
+    }
+
     public void draw() {
         background.draw();
         verticalLine.draw();
@@ -136,12 +152,12 @@ public class Sidebar extends GameComponent {
         tiedText.setText("Total de Empates");
         tiedCountText.setText("0");
 
-        player1Text.setFontSize(16);
-        player1WinText.setFontSize(40);
-        player2Text.setFontSize(16);
-        player2WinText.setFontSize(40);
-        tiedText.setFontSize(16);
-        tiedCountText.setFontSize(40);
+        player1Text.setFontSize(FontSize.NORMAL);
+        player1WinText.setFontSize(FontSize.DISPLAY);
+        player2Text.setFontSize(FontSize.NORMAL);
+        player2WinText.setFontSize(FontSize.DISPLAY);
+        tiedText.setFontSize(FontSize.NORMAL);
+        tiedCountText.setFontSize(FontSize.DISPLAY);
 
         player1WinText.setFontType(FontType.Bold);
         player2WinText.setFontType(FontType.Bold);
@@ -27,6 +27,6 @@ package net.fabiopichler.tictactoejava.scene_game.board;
 import net.fabiopichler.tictactoejava.base.drawables.Button;
 
 public class BoardItem {
-    public Player player;
+    public int cell;
     public Button button;
 }
@@ -24,12 +24,14 @@ SOFTWARE.
 
 package net.fabiopichler.tictactoejava.scene_game.board;
 
+import net.fabiopichler.tictactoejava.ai.ComputerPlayer;
+import net.fabiopichler.tictactoejava.ai.PerfectPlayTable;
 import net.fabiopichler.tictactoejava.base.*;
 import net.fabiopichler.tictactoejava.base.drawables.Button;
 import net.fabiopichler.tictactoejava.base.drawables.Image;
 import net.fabiopichler.tictactoejava.base.drawables.RectangleShape;
-import net.fabiopichler.tictactoejava.base.opengl_renderer.OpenGLRenderer;
 import net.fabiopichler.tictactoejava.base.vectors.IntRect;
+import net.fabiopichler.tictactoejava.rules.BitBoard;
 import net.fabiopichler.tictactoejava.scene_game.GameComponent;
 import net.fabiopichler.tictactoejava.scene_game.SceneGameRect;
 
@@ -39,34 +41,54 @@ public class GameBoard extends GameComponent {
     }
 
     private static class Board {
-        public final BoardItem[][] items = new BoardItem[3][3];
+        public BoardItem[] items;
         public IntRect rect;
         public int item_size;
         public int space;
     }
 
     private final Board board = new Board();
+    private final BitBoard rules;
     private final RectangleShape background;
     private final Image player1Image;
     private final Image player2Image;
     private Player player = Player.Player_1;
     private Player gameResult = Player.None;
-    private int round;
     private GameEventHandler gameEvent;
+    private ComputerPlayer computerPlayer;
+    private int computerSide = BitBoard.PLAYER_2;
+    private BoardItem hintItem;
     private double p1Angle;
 
-    public GameBoard(final OpenGLRenderer renderer, final SceneGameRect sceneGameRect) {
+    public GameBoard(final IRenderer renderer, final SceneGameRect sceneGameRect) {
+        this(renderer, sceneGameRect, 3, 3, 3);
+    }
+
+    public GameBoard(final IRenderer renderer, final SceneGameRect sceneGameRect,
+                     final int columns, final int rows, final int k) {
         super(renderer, sceneGameRect);
 
-        final int board_size = 304;
-        final int board_x = sceneGameRect.sidebar_w + ((sceneGameRect.content_w - board_size) / 2);
-        final int board_y = (sceneGameRect.window_h - board_size) / 2;
+        rules = new BitBoard(columns, rows, k);
+
+        final int max_board_size = 304;
+        final int min_item_size = 8;
+        final int cells = Math.max(columns, rows);
+
+        board.items = new BoardItem[rules.cells()];
+        board.space = Math.max(1, 15 / cells);
+        board.item_size = (max_board_size - (cells - 1) * board.space) / cells;
+
+        if (board.item_size < min_item_size)
+            throw new IllegalArgumentException("Board too large to draw: " + columns + "x" + rows);
+
+        final int board_w = columns * board.item_size + (columns - 1) * board.space;
+        final int board_h = rows * board.item_size + (rows - 1) * board.space;
+        final int board_x = sceneGameRect.sidebar_w + ((sceneGameRect.content_w - board_w) / 2);
+        final int board_y = (sceneGameRect.window_h - board_h) / 2;
 
-        board.item_size = 98;
-        board.space = 5;
-        board.rect = new IntRect(board_x, board_y, board_size, board_size);
+        board.rect = new IntRect(board_x, board_y, board_w, board_h);
 
-        background = new RectangleShape(renderer, board_size, board_size);
+        background = new RectangleShape(renderer, board_w, board_h);
         background.setPosition(board.rect.x, board.rect.y);
         background.setColor(90, 0, 110);
 
@@ -79,52 +101,110 @@ public class GameBoard extends GameComponent {
         player1Image.setAlpha(0.78f);
         player2Image.setAlpha(0.78f);
 
+        final int icon_size = Math.min((int) player1Image.width(), board.item_size * 60 / 98);
+        player1Image.setSize(icon_size, icon_size);
+        player2Image.setSize(icon_size, icon_size);
+
         setupBoard();
     }
 
     public void release() {
-        for (final BoardItem[] row : board.items)
-            for (final BoardItem col : row)
-                col.button.release();
+        if (computerPlayer != null)
+            computerPlayer.cancel();
+
+        for (final BoardItem item : board.items)
+            item.button.release();
 
         player1Image.release();
         player2Image.release();
     }
 
     public void processEvent(final Event event) {
-        for (final BoardItem[] row : board.items)
-            for (final BoardItem col : row)
-                col.button.processEvent(event);
+        for (final BoardItem item : board.items)
+            item.button.processEvent(event);
     }
 
     public void update(final double deltaTime) {
+        if (computerPlayer != null && computerPlayer.isThinking()) {
+            final int cell = computerPlayer.poll();
+
+            if (cell != -1)
+                check(board.items[cell]);
+        }
+
         p1Angle = p1Angle + 30.0 * deltaTime;
 
         if (p1Angle > 360.0)
             p1Angle = 0.0;
 
-        for (final BoardItem[] row : board.items) {
-            for (final BoardItem col : row) {
-                final Image icon = col.button.icon();
+        for (final BoardItem item : board.items) {
+            final Image icon = item.button.icon();
 
-                if (icon != null)
-                    icon.setAngle(col.player == Player.Player_1 ? p1Angle : 0);
-            }
+            if (icon != null)
+                icon.setAngle(rules.owner(item.cell) == BitBoard.PLAYER_1 ? p1Angle : 0);
         }
     }
 
     public void draw() {
         background.draw();
 
-        for (final BoardItem[] row : board.items)
-            for (final BoardItem col : row)
-                col.button.draw();
+        for (final BoardItem item : board.items)
+            item.button.draw();
     }
 
     public void setGameEvent(final GameEventHandler handler) {
         gameEvent = handler;
     }
 
+    public void setComputerPlayer(final ComputerPlayer computerPlayer) {
+        this.computerPlayer = computerPlayer;
+
+        if (isComputerTurn())
+            computerPlayer.think(rules);
+    }
+
+    public void showHint() {
+        final PerfectPlayTable table = PerfectPlayTable.instance();
+
+        if (table == null || !table.supports(rules) || rules.result() != BitBoard.NONE || isComputerTurn())
+            return;
+
+        final int cell = table.bestMove(rules);
+
+        if (cell == -1)
+            return;
+
+        clearHint();
+
+        hintItem = board.items[cell];
+        hintItem.button.setBackgroundColor(210, 90, 230);
+    }
+
+    public void replay(final BitBoard position) {
+        clearHint();
+        rules.reset();
+
+        player = Player.Player_1;
+        gameResult = Player.None;
+
+        for (final BoardItem item : board.items)
+            item.button.setIcon(null);
+
+        for (int i = 0; i < position.moveCount(); ++i)
+            applyMove(board.items[position.move(i)]);
+
+        gameResult = toPlayer(rules.result());
+        player = toPlayer(rules.currentPlayer());
+    }
+
+    public BitBoard position() {
+        return new BitBoard(rules);
+    }
+
+    public boolean isComputerThinking() {
+        return computerPlayer != null && computerPlayer.isThinking();
+    }
+
     public Player getCurrentPlayer() {
         return player;
     }
@@ -134,10 +214,11 @@ public class GameBoard extends GameComponent {
     }
 
     private void setupBoard() {
-        for (int row = 0; row < 3; ++row) {
-            for (int col = 0; col < 3; ++col) {
-                final BoardItem item = board.items[row][col] = new BoardItem();
-                item.player = Player.None;
+        for (int row = 0; row < rules.height(); ++row) {
+            for (int col = 0; col < rules.width(); ++col) {
+                final int cell = rules.cell(col, row);
+                final BoardItem item = board.items[cell] = new BoardItem();
+                item.cell = cell;
                 item.button = new Button(renderer);
 
                 item.button.setSize(board.item_size, board.item_size);
@@ -145,7 +226,7 @@ public class GameBoard extends GameComponent {
                         board.rect.x + (col * board.item_size) + (col * board.space),
                         board.rect.y + (row * board.item_size) + (row * board.space)
                 );
-                item.button.setOnPressEvent(this::onItemPress);
+                item.button.setOnPressEvent(button -> onItemPress(item));
                 item.button.setBackgroundColor(160, 40, 180);
                 item.button.setBackgroundHoverColor(200, 50, 220);
                 item.button.setBackgroundPressedColor(140, 40, 160);
@@ -153,52 +234,59 @@ public class GameBoard extends GameComponent {
         }
     }
 
-    private void onItemPress(Button button) {
-        for (final BoardItem[] row : board.items) {
-            for (final BoardItem col : row) {
-                if (col.button == button) {
-                    check(col);
+    private void onItemPress(final BoardItem item) {
+        if (isComputerTurn())
+            return;
 
-                    return;
-                }
-            }
-        }
+        check(item);
+    }
+
+    private boolean isComputerTurn() {
+        return computerPlayer != null && rules.result() == BitBoard.NONE && rules.currentPlayer() == computerSide;
     }
 
     private void check(final BoardItem item) {
-        if (item.player != Player.None || gameResult != Player.None)
+        if (!applyMove(item))
             return;
 
-        item.player = player;
-        gameResult = checkWinner();
-        player = player == Player.Player_1 ? Player.Player_2 : Player.Player_1;
+        clearHint();
+
+        gameResult = toPlayer(rules.result());
+        player = toPlayer(rules.currentPlayer());
 
         if (gameEvent != null)
             gameEvent.call(this);
 
-        item.button.setIcon(item.player == Player.Player_1 ? player1Image : player2Image);
-
-        round++;
+        if (isComputerTurn())
+            computerPlayer.think(rules);
     }
 
-    private Player checkWinner() {
-        Player player = BoardUtil.checkBoardRows(3, board.items);
+    private boolean applyMove(final BoardItem item) {
+        if (!rules.play(item.cell))
+            return false;
 
-        if (player == Player.None) {
-            final var items = new BoardItem[3][3];
-            BoardUtil.transposeBoard(board.items, items);
-            player = BoardUtil.checkBoardRows(3, items);
-        }
-
-        if (player == Player.None)
-            player = BoardUtil.checkBoardDiagonals(board.items);
+        item.button.setIcon(rules.owner(item.cell) == BitBoard.PLAYER_1 ? player1Image : player2Image);
+        return true;
+    }
 
-        if (player.ordinal() > Player.None.ordinal())
-            return player;
+    private void clearHint() {
+        if (hintItem == null)
+            return;
 
-        if (player == Player.None && round == 8)
-            return Player.Tied;
+        hintItem.button.setBackgroundColor(160, 40, 180);
+        hintItem = null;
+    }
 
-        return Player.None;
+    private static Player toPlayer(final int value) {
+        switch (value) {
+            case BitBoard.PLAYER_1:
+                return Player.Player_1;
+            case BitBoard.PLAYER_2:
+                return Player.Player_2;
+            case BitBoard.TIED:
+                return Player.Tied;
+            default:
+                return Player.None;
+        }
     }
 }
@@ -0,0 +1,78 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.simulation;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+public class SimulationResult {
+    private final long[] results = new long[4];
+    private long moves;
+    private long elapsedNanos;
+
+    public void addGame(final int result, final int moveCount) {
+        ++results[result];
+        moves += moveCount;
+    }
+
+    public void add(final SimulationResult other) {
+        for (int i = 0; i < results.length; ++i)
+            results[i] += other.results[i];
+
+        moves += other.moves;
+    }
+
+    public void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long games() {
+        return results[BitBoard.PLAYER_1] + results[BitBoard.PLAYER_2] + results[BitBoard.TIED];
+    }
+
+    public long player1Wins() {
+        return results[BitBoard.PLAYER_1];
+    }
+
+    public long player2Wins() {
+        return results[BitBoard.PLAYER_2];
+    }
+
+    public long ties() {
+        return results[BitBoard.TIED];
+    }
+
+    public long moves() {
+        return moves;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos > 0 ? games() * 1e9 / elapsedNanos : 0.0;
+    }
+}
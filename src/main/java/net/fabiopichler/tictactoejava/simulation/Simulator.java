@@ -0,0 +1,138 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.simulation;
+
+import net.fabiopichler.tictactoejava.ai.IStrategy;
+import net.fabiopichler.tictactoejava.records.GameRecord;
+import net.fabiopichler.tictactoejava.records.GameRecordWriter;
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class Simulator {
+    public interface StrategyFactory {
+        IStrategy create(long seed);
+    }
+
+    private static final int RECORD_BATCH = 4096;
+
+    private final int width;
+    private final int height;
+    private final int k;
+    private GameRecordWriter recordWriter;
+
+    public Simulator(final int width, final int height, final int k) {
+        this.width = width;
+        this.height = height;
+        this.k = k;
+    }
+
+    public SimulationResult run(final StrategyFactory player1, final StrategyFactory player2,
+                                final long games, final int threads, final long seed) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<SimulationResult>> futures = new ArrayList<>();
+        final long start = System.nanoTime();
+
+        try {
+            for (int thread = 0; thread < threads; ++thread) {
+                final long threadGames = games / threads + (thread < games % threads ? 1 : 0);
+                final long threadSeed = seed + 0x9e3779b97f4a7c15L * (thread + 1);
+
+                futures.add(executor.submit(() -> play(player1.create(threadSeed), player2.create(~threadSeed), threadGames)));
+            }
+
+            final var total = new SimulationResult();
+
+            for (final Future<SimulationResult> future : futures)
+                total.add(future.get());
+
+            total.setElapsedNanos(System.nanoTime() - start);
+
+            return total;
+
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public SimulationResult play(final IStrategy player1, final IStrategy player2, final long games) {
+        final var board = new BitBoard(width, height, k);
+        final var result = new SimulationResult();
+        final long[] records = recordWriter != null ? new long[RECORD_BATCH] : null;
+        int recordCount = 0;
+
+        for (long game = 0; game < games; ++game) {
+            board.reset();
+            playGame(board, player1, player2);
+            result.addGame(board.result(), board.moveCount());
+
+            if (records == null)
+                continue;
+
+            records[recordCount++] = GameRecord.pack(board);
+
+            if (recordCount == records.length) {
+                writeRecords(records, recordCount);
+                recordCount = 0;
+            }
+        }
+
+        if (recordCount > 0)
+            writeRecords(records, recordCount);
+
+        return result;
+    }
+
+    public void setRecordWriter(final GameRecordWriter recordWriter) {
+        if (recordWriter != null && width * height > GameRecord.MAX_MOVES)
+            throw new IllegalArgumentException("Game records only support boards up to " + GameRecord.MAX_MOVES + " cells");
+
+        this.recordWriter = recordWriter;
+    }
+
+    public static void playGame(final BitBoard board, final IStrategy player1, final IStrategy player2) {
+        while (board.result() == BitBoard.NONE) {
+            final IStrategy strategy = board.currentPlayer() == BitBoard.PLAYER_1 ? player1 : player2;
+
+            if (!board.play(strategy.chooseMove(board)))
+                throw new IllegalStateException(strategy.name() + " played an illegal move");
+        }
+    }
+
+    private void writeRecords(final long[] records, final int count) {
+        try {
+            recordWriter.append(records, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
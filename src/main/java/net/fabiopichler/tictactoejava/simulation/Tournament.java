@@ -0,0 +1,96 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class Tournament {
+    private static final long CHUNK_GAMES = 16_384;
+
+    private final Simulator simulator;
+    private final List<String> names = new ArrayList<>();
+    private final List<Simulator.StrategyFactory> factories = new ArrayList<>();
+
+    public Tournament(final int width, final int height, final int k) {
+        simulator = new Simulator(width, height, k);
+    }
+
+    public void addPlayer(final String name, final Simulator.StrategyFactory factory) {
+        names.add(name);
+        factories.add(factory);
+    }
+
+    public TournamentResult run(final long gamesPerPairing, final int threads, final long seed) {
+        final int players = names.size();
+        final var result = new TournamentResult(names);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<SimulationResult>> futures = new ArrayList<>();
+        final List<int[]> pairings = new ArrayList<>();
+        final long start = System.nanoTime();
+
+        try {
+            for (int player1 = 0; player1 < players; ++player1) {
+                for (int player2 = 0; player2 < players; ++player2) {
+                    if (player1 == player2)
+                        continue;
+
+                    for (long first = 0; first < gamesPerPairing; first += CHUNK_GAMES) {
+                        final long chunkGames = Math.min(CHUNK_GAMES, gamesPerPairing - first);
+                        final long chunkSeed = chunkSeed(seed, player1 * players + player2, first / CHUNK_GAMES);
+                        final Simulator.StrategyFactory factory1 = factories.get(player1);
+                        final Simulator.StrategyFactory factory2 = factories.get(player2);
+
+                        pairings.add(new int[] { player1, player2 });
+                        futures.add(executor.submit(() ->
+                                simulator.play(factory1.create(chunkSeed), factory2.create(~chunkSeed), chunkGames)));
+                    }
+                }
+            }
+
+            for (int i = 0; i < futures.size(); ++i)
+                result.pairing(pairings.get(i)[0], pairings.get(i)[1]).add(futures.get(i).get());
+
+            result.setElapsedNanos(System.nanoTime() - start);
+
+            return result;
+
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long chunkSeed(final long seed, final int pairing, final long chunk) {
+        long value = seed + 0x9e3779b97f4a7c15L * (pairing + 1) + 0xbf58476d1ce4e5b9L * (chunk + 1);
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,182 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+
+package net.fabiopichler.tictactoejava.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class TournamentResult {
+    private static final double MEAN_RATING = 1500.0;
+    private static final int RATING_ITERATIONS = 10_000;
+
+    private final List<String> names;
+    private final SimulationResult[][] pairings;
+    private long elapsedNanos;
+
+    public TournamentResult(final List<String> names) {
+        this.names = List.copyOf(names);
+        this.pairings = new SimulationResult[names.size()][names.size()];
+
+        for (int i = 0; i < pairings.length; ++i)
+            for (int j = 0; j < pairings.length; ++j)
+                pairings[i][j] = new SimulationResult();
+    }
+
+    public List<String> names() {
+        return names;
+    }
+
+    public SimulationResult pairing(final int player1, final int player2) {
+        return pairings[player1][player2];
+    }
+
+    public void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long games() {
+        long games = 0;
+
+        for (final SimulationResult[] row : pairings)
+            for (final SimulationResult pairing : row)
+                games += pairing.games();
+
+        return games;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos > 0 ? games() * 1e9 / elapsedNanos : 0.0;
+    }
+
+    public long games(final int player) {
+        return games(player, -1);
+    }
+
+    public long games(final int player, final int opponent) {
+        long games = 0;
+
+        for (int other = 0; other < pairings.length; ++other) {
+            if (other == player || (opponent != -1 && other != opponent))
+                continue;
+
+            games += pairings[player][other].games() + pairings[other][player].games();
+        }
+
+        return games;
+    }
+
+    public long wins(final int player) {
+        long wins = 0;
+
+        for (int other = 0; other < pairings.length; ++other)
+            if (other != player)
+                wins += pairings[player][other].player1Wins() + pairings[other][player].player2Wins();
+
+        return wins;
+    }
+
+    public long losses(final int player) {
+        long losses = 0;
+
+        for (int other = 0; other < pairings.length; ++other)
+            if (other != player)
+                losses += pairings[player][other].player2Wins() + pairings[other][player].player1Wins();
+
+        return losses;
+    }
+
+    public long draws(final int player) {
+        long draws = 0;
+
+        for (int other = 0; other < pairings.length; ++other)
+            if (other != player)
+                draws += pairings[player][other].ties() + pairings[other][player].ties();
+
+        return draws;
+    }
+
+    public double score(final int player, final int opponent) {
+        final SimulationResult first = pairings[player][opponent];
+        final SimulationResult second = pairings[opponent][player];
+
+        return first.player1Wins() + second.player2Wins() + 0.5 * (first.ties() + second.ties());
+    }
+
+    public double[] ratings() {
+        final int players = pairings.length;
+        final double[] strengths = new double[players];
+        final double[] next = new double[players];
+
+        Arrays.fill(strengths, 1.0);
+
+        for (int iteration = 0; iteration < RATING_ITERATIONS; ++iteration) {
+            double logSum = 0.0;
+
+            for (int i = 0; i < players; ++i) {
+                double score = 0.0;
+                double denominator = 0.0;
+
+                for (int j = 0; j < players; ++j) {
+                    if (i == j)
+                        continue;
+
+                    final long games = games(i, j);
+
+                    if (games == 0)
+                        continue;
+
+                    score += score(i, j) + 0.5;
+                    denominator += (games + 1) / (strengths[i] + strengths[j]);
+                }
+
+                next[i] = denominator > 0.0 ? score / denominator : strengths[i];
+                logSum += Math.log(next[i]);
+            }
+
+            final double scale = Math.exp(-logSum / players);
+            double change = 0.0;
+
+            for (int i = 0; i < players; ++i) {
+                change = Math.max(change, Math.abs(next[i] * scale - strengths[i]) / strengths[i]);
+                strengths[i] = next[i] * scale;
+            }
+
+            if (change < 1e-12)
+                break;
+        }
+
+        final double[] ratings = new double[players];
+
+        for (int i = 0; i < players; ++i)
+            ratings[i] = MEAN_RATING + 400.0 * Math.log10(strengths[i]);
+
+        return ratings;
+    }
+}
@@ -22,24 +22,43 @@ SOFTWARE.
 
 -------------------------------------------------------------------------------*/
 
-#ifdef GL_ES
-    precision highp float;
+uniform sampler2D uSampler;
+
+#if hasFont
+uniform vec2 uSdf;
+uniform vec4 uOutlineColor;
 #endif
 
-uniform sampler2D uSampler;
+in vec2 vUV;
+in vec4 vColor;
 
-varying vec2 vUV;
-varying vec4 vColor;
+out vec4 fragColor;
 
 void main()
 {
     vec4 color = vec4(vColor.rgb / 255.0, vColor.a);
 
 #if hasFont
-    gl_FragColor = color * vec4(1.0, 1.0, 1.0, texture2D(uSampler, vUV).r);
+    float value = texture(uSampler, vUV).r;
+
+    if (uSdf.x > 0.0) {
+        float smoothing = max(fwidth(value) * 0.5, 0.001);
+        float fill = smoothstep(0.5 - smoothing, 0.5 + smoothing, value);
+
+        if (uSdf.y > 0.0) {
+            vec4 outline = vec4(uOutlineColor.rgb / 255.0, uOutlineColor.a);
+            float border = smoothstep(0.5 - uSdf.y - smoothing, 0.5 - uSdf.y + smoothing, value);
+
+            fragColor = vec4(mix(outline.rgb, color.rgb, fill), mix(outline.a * border, color.a, fill));
+        } else {
+            fragColor = vec4(color.rgb, color.a * fill);
+        }
+    } else {
+        fragColor = color * vec4(1.0, 1.0, 1.0, value);
+    }
 #elif hasTexture
-    gl_FragColor = color * texture2D(uSampler, vUV);
+    fragColor = color * texture(uSampler, vUV);
 #else
-    gl_FragColor = color;
+    fragColor = color;
 #endif
 }
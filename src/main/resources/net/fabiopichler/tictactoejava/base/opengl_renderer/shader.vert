@@ -22,23 +22,37 @@ SOFTWARE.
 
 -------------------------------------------------------------------------------*/
 
-attribute vec2 aPosition;
-attribute vec2 aUV;
-attribute vec4 aColor;
+layout(std140) uniform Frame
+{
+    mat4 uProjection;
+    vec4 uLogicalSize;
+};
+
+in vec2 aPosition;
+in vec2 aUV;
+in vec4 aColor;
 
-uniform mat4 uTransform;
-uniform mat4 uProjection;
-uniform vec4 uSourcePosition;
+#if hasInstances
+in vec4 aRect;
+in vec4 aSource;
 
-varying vec2 vUV;
-varying vec4 vColor;
+uniform vec2 uOffset;
+uniform vec2 uTextureScale;
+uniform vec4 uColors[4];
+#endif
+
+out vec2 vUV;
+out vec4 vColor;
 
 void main()
 {
+#if hasInstances
+    vColor = mix(mix(uColors[3], uColors[2], aPosition.x), mix(uColors[0], uColors[1], aPosition.x), aPosition.y);
+    gl_Position = uProjection * vec4(uOffset + aRect.xy + aPosition * aRect.zw, 1.0, 1.0);
+    vUV = (aSource.xy + aUV * aSource.zw) * uTextureScale;
+#else
     vColor = aColor;
-    gl_Position = uProjection * uTransform * vec4(aPosition, 1.0, 1.0);
-
-#if hasTexture
-    vUV = uSourcePosition.xy + vec2(aUV.x * uSourcePosition.z, aUV.y * uSourcePosition.w);
+    gl_Position = uProjection * vec4(aPosition, 1.0, 1.0);
+    vUV = aUV;
 #endif
 }
@@ -0,0 +1,146 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.base.utils;
+
+import net.fabiopichler.tictactoejava.base.vectors.IntVec2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkylinePackerTest {
+    @Test
+    void packedRectsStayInsideAndDoNotOverlap() {
+        final Random random = new Random(3);
+        final SkylinePacker packer = new SkylinePacker(128, 128);
+        final boolean[][] used = new boolean[128][128];
+        final IntVec2 position = new IntVec2();
+        int area = 0;
+        int packed = 0;
+
+        for (int i = 0; i < 500; ++i) {
+            final int w = 1 + random.nextInt(20);
+            final int h = 1 + random.nextInt(20);
+
+            if (!packer.pack(w, h, position))
+                continue;
+
+            assertTrue(position.x >= 0 && position.y >= 0 && position.x + w <= 128 && position.y + h <= 128);
+
+            for (int y = position.y; y < position.y + h; ++y) {
+                for (int x = position.x; x < position.x + w; ++x) {
+                    assertFalse(used[y][x], "overlap at " + x + "," + y);
+                    used[y][x] = true;
+                }
+            }
+
+            area += w * h;
+            ++packed;
+        }
+
+        assertTrue(packed > 50);
+        assertEquals(area, packer.usedArea());
+    }
+
+    @Test
+    void firstRectGoesToOrigin() {
+        final SkylinePacker packer = new SkylinePacker(64, 32);
+        final IntVec2 position = new IntVec2(-1, -1);
+
+        assertTrue(packer.pack(10, 5, position));
+        assertEquals(0, position.x);
+        assertEquals(0, position.y);
+        assertArrayEquals(new int[] { 0, 5, 10, 10, 0, 54 }, packer.skyline());
+    }
+
+    @Test
+    void rejectsRectsThatDoNotFit() {
+        final SkylinePacker packer = new SkylinePacker(16, 16);
+        final IntVec2 position = new IntVec2();
+
+        assertFalse(packer.pack(17, 1, position));
+        assertFalse(packer.pack(1, 17, position));
+        assertFalse(packer.pack(0, 4, position));
+
+        assertTrue(packer.pack(16, 16, position));
+        assertFalse(packer.pack(1, 1, position));
+        assertEquals(256, packer.usedArea());
+    }
+
+    @Test
+    void resetEmptiesThePacker() {
+        final SkylinePacker packer = new SkylinePacker(16, 16);
+        final IntVec2 position = new IntVec2();
+
+        packer.pack(16, 16, position);
+        packer.reset();
+
+        assertEquals(0, packer.usedArea());
+        assertArrayEquals(new int[] { 0, 0, 16 }, packer.skyline());
+        assertTrue(packer.pack(16, 16, position));
+    }
+
+    @Test
+    void restoredSkylinePacksLikeTheOriginal() {
+        final Random random = new Random(5);
+        final SkylinePacker original = new SkylinePacker(256, 256);
+        final IntVec2 position = new IntVec2();
+
+        for (int i = 0; i < 40; ++i)
+            original.pack(4 + random.nextInt(30), 4 + random.nextInt(30), position);
+
+        final SkylinePacker restored = new SkylinePacker(256, 256);
+        restored.restore(original.skyline(), original.usedArea());
+
+        assertArrayEquals(original.skyline(), restored.skyline());
+        assertEquals(original.usedArea(), restored.usedArea());
+
+        final IntVec2 restoredPosition = new IntVec2();
+
+        for (int i = 0; i < 40; ++i) {
+            final int w = 4 + random.nextInt(30);
+            final int h = 4 + random.nextInt(30);
+
+            assertEquals(original.pack(w, h, position), restored.pack(w, h, restoredPosition));
+            assertEquals(position.x, restoredPosition.x);
+            assertEquals(position.y, restoredPosition.y);
+        }
+    }
+
+    @Test
+    void restoreRejectsInvalidSkylines() {
+        final SkylinePacker packer = new SkylinePacker(16, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[0], 0));
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[] { 0, 0 }, 0));
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[] { 0, 0, 8 }, 0));
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[] { 0, 0, 8, 9, 0, 7 }, 0));
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[] { 0, 17, 16 }, 0));
+        assertThrows(IllegalArgumentException.class, () -> packer.restore(new int[] { 0, 0, 16 }, 257));
+
+        assertArrayEquals(new int[] { 0, 0, 16 }, packer.skyline());
+    }
+}
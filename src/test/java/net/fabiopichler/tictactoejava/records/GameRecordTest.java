@@ -0,0 +1,99 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.records;
+
+import net.fabiopichler.tictactoejava.rules.BitBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordTest {
+    @Test
+    void packKeepsMovesAndResult() {
+        final BitBoard board = play(4, 0, 8, 2, 1, 7, 6, 3, 5);
+        final long record = GameRecord.pack(board);
+
+        assertEquals(BitBoard.TIED, board.result());
+        assertEquals(9, GameRecord.moveCount(record));
+        assertEquals(BitBoard.TIED, GameRecord.result(record));
+
+        for (int i = 0; i < board.moveCount(); ++i)
+            assertEquals(board.move(i), GameRecord.move(record, i));
+    }
+
+    @Test
+    void packStoresWinner() {
+        final long record = GameRecord.pack(play(0, 3, 1, 4, 2));
+
+        assertEquals(5, GameRecord.moveCount(record));
+        assertEquals(BitBoard.PLAYER_1, GameRecord.result(record));
+    }
+
+    @Test
+    void emptyBoardPacksToZero() {
+        final long record = GameRecord.pack(new BitBoard());
+
+        assertEquals(0, record);
+        assertEquals(0, GameRecord.moveCount(record));
+        assertEquals(BitBoard.NONE, GameRecord.result(record));
+    }
+
+    @Test
+    void replayRestoresPosition() {
+        final BitBoard board = play(8, 4, 0, 2, 6, 3, 7);
+        final BitBoard replayed = play(1, 2, 3);
+
+        GameRecord.replay(GameRecord.pack(board), replayed);
+
+        assertEquals(board.moveCount(), replayed.moveCount());
+        assertEquals(board.result(), replayed.result());
+        assertEquals(board.hash(), replayed.hash());
+    }
+
+    @Test
+    void replayRejectsRepeatedCell() {
+        final long record = GameRecord.pack(play(0, 1)) & ~0xf0L;
+
+        assertThrows(IllegalArgumentException.class, () -> GameRecord.replay(record, new BitBoard()));
+    }
+
+    @Test
+    void largerBoardsAreNotSupported() {
+        final BitBoard board = new BitBoard(4, 4, 4);
+
+        assertTrue(GameRecord.supports(new BitBoard()));
+        assertFalse(GameRecord.supports(board));
+        assertThrows(IllegalArgumentException.class, () -> GameRecord.pack(board));
+    }
+
+    private static BitBoard play(final int... cells) {
+        final BitBoard board = new BitBoard();
+
+        for (final int cell : cells)
+            assertTrue(board.play(cell));
+
+        return board;
+    }
+}
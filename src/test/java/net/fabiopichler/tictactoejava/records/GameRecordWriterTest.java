@@ -0,0 +1,252 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.records;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordWriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void writtenRecordsReadBack() throws IOException {
+        final Path path = directory.resolve("games.bin");
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(0x1234L);
+            writer.append(new long[] { 7, 8, 9, -1 }, 3);
+
+            assertEquals(4, writer.count());
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertEquals(4, reader.count());
+            assertArrayEquals(new long[] { 0x1234L, 7, 8, 9 }, readAll(reader));
+            assertEquals(9, reader.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.get(4));
+        }
+    }
+
+    @Test
+    void recordsLargerThanTheWriteBufferReadBack() throws IOException {
+        final Path path = directory.resolve("games.bin");
+        final int count = 50_000;
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (int i = 0; i < count; ++i)
+                writer.append(i * 31L);
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertEquals(count, reader.count());
+
+            for (int i = 0; i < count; i += 997)
+                assertEquals(i * 31L, reader.get(i));
+
+            assertEquals((count - 1) * 31L, reader.get(count - 1));
+        }
+    }
+
+    @Test
+    void bulkAppendLargerThanTheWriteBufferReadsBack() throws IOException {
+        final Path path = directory.resolve("games.bin");
+        final long[] records = sequence(0, 10_000);
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(records, records.length);
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertArrayEquals(records, readAll(reader));
+        }
+    }
+
+    @Test
+    void bulkAppendAfterBufferedRecordsReadsBack() throws IOException {
+        final Path path = directory.resolve("games.bin");
+        final long[] single = sequence(0, 5);
+        final long[] bulk = sequence(single.length, 8_190);
+        final long[] expected = sequence(0, single.length + bulk.length);
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (final long record : single)
+                writer.append(record);
+
+            writer.append(bulk, bulk.length);
+
+            assertEquals(expected.length, writer.count());
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertArrayEquals(expected, readAll(reader));
+        }
+    }
+
+    @Test
+    void reopeningAppendsAfterExistingRecords() throws IOException {
+        final Path path = directory.resolve("games.bin");
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(1);
+            writer.append(2);
+        }
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            assertEquals(2, writer.count());
+            writer.append(3);
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertArrayEquals(new long[] { 1, 2, 3 }, readAll(reader));
+        }
+    }
+
+    @Test
+    void crashKeepsOnlyFlushedRecords() throws IOException {
+        final Path path = directory.resolve("games.bin");
+        final Path crashed = directory.resolve("crashed.bin");
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(10);
+            writer.append(11);
+            writer.flush();
+
+            for (int i = 0; i < 20_000; ++i)
+                writer.append(-1);
+
+            Files.copy(path, crashed);
+        }
+
+        assertTrue(Files.size(crashed) > GameRecordFile.offset(2));
+
+        try (final GameRecordReader reader = new GameRecordReader(crashed)) {
+            assertArrayEquals(new long[] { 10, 11 }, readAll(reader));
+        }
+
+        try (final GameRecordWriter writer = new GameRecordWriter(crashed)) {
+            assertEquals(2, writer.count());
+            writer.append(12);
+        }
+
+        assertEquals(GameRecordFile.offset(3), Files.size(crashed));
+
+        try (final GameRecordReader reader = new GameRecordReader(crashed)) {
+            assertArrayEquals(new long[] { 10, 11, 12 }, readAll(reader));
+        }
+    }
+
+    @Test
+    void tornTailIsIgnored() throws IOException {
+        final Path path = directory.resolve("games.bin");
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(5);
+        }
+
+        Files.write(path, new byte[] { 1, 2, 3 }, APPEND);
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertArrayEquals(new long[] { 5 }, readAll(reader));
+        }
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(6);
+        }
+
+        try (final GameRecordReader reader = new GameRecordReader(path)) {
+            assertArrayEquals(new long[] { 5, 6 }, readAll(reader));
+        }
+    }
+
+    @Test
+    void appendAfterCloseFails() throws IOException {
+        final GameRecordWriter writer = new GameRecordWriter(directory.resolve("games.bin"));
+
+        writer.close();
+        writer.close();
+
+        assertThrows(IllegalStateException.class, () -> writer.append(1));
+        assertThrows(IllegalStateException.class, () -> writer.append(new long[] { 1 }, 1));
+        assertThrows(IllegalStateException.class, writer::flush);
+    }
+
+    @Test
+    void foreignFileIsRejected() throws IOException {
+        final Path path = directory.resolve("games.bin");
+
+        Files.write(path, new byte[64]);
+
+        assertThrows(IOException.class, () -> new GameRecordReader(path));
+        assertThrows(IOException.class, () -> new GameRecordWriter(path));
+        assertEquals(64, Files.size(path));
+    }
+
+    @Test
+    void headerCountPastEndIsRejected() throws IOException {
+        final Path path = directory.resolve("games.bin");
+
+        try (final GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.append(1);
+        }
+
+        try (final FileChannel channel = FileChannel.open(path, WRITE)) {
+            final ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 5);
+
+            channel.write(count, GameRecordFile.HEADER_BYTES - Long.BYTES);
+        }
+
+        assertThrows(IOException.class, () -> new GameRecordReader(path));
+    }
+
+    private static long[] sequence(final int start, final int length) {
+        final long[] records = new long[length];
+
+        for (int i = 0; i < length; ++i)
+            records[i] = (start + i) * 31L + 1;
+
+        return records;
+    }
+
+    private static long[] readAll(final GameRecordReader reader) {
+        final List<Long> records = new ArrayList<>();
+
+        reader.forEach(records::add);
+
+        return records.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,212 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+    private static final int[][] DIRECTIONS = { { 1, 0 }, { 0, 1 }, { 1, 1 }, { 1, -1 } };
+
+    @Test
+    void classicRowColumnAndDiagonalsWin() {
+        assertEquals(BitBoard.PLAYER_1, playLine(new BitBoard(), 0, 0, 1, 0));
+        assertEquals(BitBoard.PLAYER_1, playLine(new BitBoard(), 2, 0, 0, 1));
+        assertEquals(BitBoard.PLAYER_1, playLine(new BitBoard(), 0, 0, 1, 1));
+        assertEquals(BitBoard.PLAYER_1, playLine(new BitBoard(), 0, 2, 1, -1));
+    }
+
+    @Test
+    void maskPathDetectsEveryDirection() {
+        for (final int[] direction : DIRECTIONS) {
+            final BitBoard board = new BitBoard(8, 8, 5);
+            final int startY = direction[1] < 0 ? 7 : 3;
+
+            assertEquals(BitBoard.PLAYER_1, playLine(board, 3, startY, direction[0], direction[1]));
+        }
+    }
+
+    @Test
+    void walkPathDetectsEveryDirection() {
+        for (final int[] direction : DIRECTIONS) {
+            final BitBoard board = new BitBoard(9, 9, 5);
+            final int startY = direction[1] < 0 ? 8 : 4;
+
+            assertEquals(BitBoard.PLAYER_1, playLine(board, 4, startY, direction[0], direction[1]));
+        }
+    }
+
+    @Test
+    void walkPathDetectsLinesAcrossWordBoundary() {
+        final BitBoard board = new BitBoard(9, 9, 5);
+
+        assertEquals(BitBoard.PLAYER_1, playLine(board, 0, 7, 1, 0));
+        assertTrue(board.cell(0, 7) < 64 && board.cell(4, 7) >= 64);
+    }
+
+    @Test
+    void shortLineDoesNotWin() {
+        final BitBoard mask = new BitBoard(8, 8, 5);
+        final BitBoard walk = new BitBoard(9, 9, 5);
+
+        for (int x = 0; x < 4; ++x) {
+            mask.play(mask.cell(x, 0));
+            mask.play(mask.cell(x, 7));
+            walk.play(walk.cell(x, 0));
+            walk.play(walk.cell(x, 8));
+        }
+
+        assertEquals(BitBoard.NONE, mask.result());
+        assertEquals(BitBoard.NONE, walk.result());
+        assertTrue(mask.isWinningMove(mask.cell(4, 0), BitBoard.PLAYER_1));
+        assertTrue(walk.isWinningMove(walk.cell(4, 0), BitBoard.PLAYER_1));
+        assertFalse(mask.isWinningMove(mask.cell(5, 0), BitBoard.PLAYER_1));
+        assertFalse(walk.isWinningMove(walk.cell(5, 0), BitBoard.PLAYER_1));
+        assertTrue(walk.isEmpty(walk.cell(4, 0)));
+    }
+
+    @Test
+    void lineDoesNotWrapAroundRows() {
+        final BitBoard mask = new BitBoard(8, 8, 3);
+        final BitBoard walk = new BitBoard(9, 9, 3);
+
+        assertEquals(BitBoard.NONE, playCells(mask, mask.cell(6, 0), mask.cell(7, 0), mask.cell(0, 1)));
+        assertEquals(BitBoard.NONE, playCells(walk, walk.cell(7, 0), walk.cell(8, 0), walk.cell(0, 1)));
+    }
+
+    @Test
+    void fullBoardWithoutLineIsTied() {
+        final BitBoard board = new BitBoard();
+
+        for (final int cell : new int[] { 0, 1, 2, 4, 3, 5, 7, 6, 8 })
+            assertTrue(board.play(cell));
+
+        assertEquals(BitBoard.TIED, board.result());
+        assertFalse(board.play(0));
+    }
+
+    @Test
+    void undoClearsResult() {
+        final BitBoard board = new BitBoard(9, 9, 5);
+
+        playLine(board, 0, 0, 1, 0);
+        board.undo();
+
+        assertEquals(BitBoard.NONE, board.result());
+        assertEquals(BitBoard.PLAYER_1, board.currentPlayer());
+        assertTrue(board.isEmpty(board.cell(4, 0)));
+    }
+
+    @Test
+    void randomGamesMatchReferenceScan() {
+        final Random random = new Random(42);
+
+        for (final int size : new int[] { 3, 7, 8, 9, 11 }) {
+            for (int game = 0; game < 200; ++game) {
+                final int k = Math.min(size, 3 + random.nextInt(3));
+                final BitBoard board = new BitBoard(size, size, k);
+
+                while (board.result() == BitBoard.NONE) {
+                    final int player = board.currentPlayer();
+                    final int cell = randomEmptyCell(board, random);
+                    final boolean winning = board.isWinningMove(cell, player);
+
+                    board.play(cell);
+
+                    assertEquals(winning, hasLine(board, player), "size " + size + " k " + k);
+                    assertEquals(winning, board.result() == player);
+                }
+            }
+        }
+    }
+
+    private static int playLine(final BitBoard board, final int x, final int y, final int dx, final int dy) {
+        for (int i = 0; i < board.k(); ++i) {
+            board.play(board.cell(x + dx * i, y + dy * i));
+
+            if (board.result() != BitBoard.NONE)
+                break;
+
+            board.play(emptyCellOffLine(board, x, y, dx, dy));
+        }
+
+        return board.result();
+    }
+
+    private static int playCells(final BitBoard board, final int... cells) {
+        for (final int cell : cells) {
+            board.play(cell);
+            board.play(board.cells() - 1 - board.column(cell));
+        }
+
+        return board.result();
+    }
+
+    private static int emptyCellOffLine(final BitBoard board, final int x, final int y, final int dx, final int dy) {
+        for (int cell = board.cells() - 1; cell >= 0; --cell) {
+            final int cx = board.column(cell) - x;
+            final int cy = board.row(cell) - y;
+            final boolean onLine = cx * dy == cy * dx;
+
+            if (board.isEmpty(cell) && !onLine)
+                return cell;
+        }
+
+        throw new IllegalStateException("No free cell");
+    }
+
+    private static int randomEmptyCell(final BitBoard board, final Random random) {
+        while (true) {
+            final int cell = random.nextInt(board.cells());
+
+            if (board.isEmpty(cell))
+                return cell;
+        }
+    }
+
+    private static boolean hasLine(final BitBoard board, final int player) {
+        for (int y = 0; y < board.height(); ++y) {
+            for (int x = 0; x < board.width(); ++x) {
+                for (final int[] direction : DIRECTIONS) {
+                    int count = 0;
+
+                    for (int cx = x, cy = y; count < board.k() && cx >= 0 && cx < board.width() && cy >= 0
+                            && cy < board.height() && board.owner(board.cell(cx, cy)) == player; ++count) {
+                        cx += direction[0];
+                        cy += direction[1];
+                    }
+
+                    if (count == board.k())
+                        return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
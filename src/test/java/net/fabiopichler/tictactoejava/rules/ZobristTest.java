@@ -0,0 +1,140 @@
+/*-------------------------------------------------------------------------------
+
+Copyright (c) 2020-2023 Fábio Pichler
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+
+-------------------------------------------------------------------------------*/
+
+package net.fabiopichler.tictactoejava.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+    private static final int[][] SIZES = { { 3, 3 }, { 4, 4 }, { 5, 3 }, { 9, 9 } };
+
+    @Test
+    void squareBoardsHaveEightSymmetriesAndRectanglesFour() {
+        assertEquals(8, new Zobrist(3, 3).symmetryCount());
+        assertEquals(8, new Zobrist(15, 15).symmetryCount());
+        assertEquals(4, new Zobrist(5, 3).symmetryCount());
+    }
+
+    @Test
+    void unmapInvertsMap() {
+        for (final int[] size : SIZES) {
+            final Zobrist zobrist = new Zobrist(size[0], size[1]);
+            final int cells = size[0] * size[1];
+
+            for (int s = 0; s < zobrist.symmetryCount(); ++s) {
+                final boolean[] seen = new boolean[cells];
+
+                for (int cell = 0; cell < cells; ++cell) {
+                    final int mapped = zobrist.map(cell, s);
+
+                    assertFalse(seen[mapped], "symmetry " + s + " is not a permutation");
+                    seen[mapped] = true;
+
+                    assertEquals(cell, zobrist.unmap(mapped, s));
+                    assertEquals(cell, zobrist.map(zobrist.unmap(cell, s), s));
+                }
+            }
+        }
+    }
+
+    @Test
+    void identitySymmetryKeepsCells() {
+        final Zobrist zobrist = new Zobrist(4, 4);
+
+        for (int cell = 0; cell < 16; ++cell)
+            assertEquals(cell, zobrist.map(cell, 0));
+    }
+
+    @Test
+    void symmetricPositionsShareCanonicalHash() {
+        final Random random = new Random(7);
+
+        for (final int[] size : SIZES) {
+            final BitBoard board = randomPosition(new BitBoard(size[0], size[1], 3), random);
+            final Zobrist zobrist = board.zobrist();
+
+            for (int s = 0; s < zobrist.symmetryCount(); ++s) {
+                final BitBoard mapped = new BitBoard(size[0], size[1], 3);
+
+                for (int i = 0; i < board.moveCount(); ++i)
+                    mapped.play(zobrist.map(board.move(i), s));
+
+                assertEquals(board.canonicalHash(), mapped.canonicalHash());
+            }
+        }
+    }
+
+    @Test
+    void canonicalSymmetryMapsToCanonicalHash() {
+        final Random random = new Random(11);
+
+        for (final int[] size : SIZES) {
+            final BitBoard board = randomPosition(new BitBoard(size[0], size[1], 3), random);
+            final int symmetry = board.canonicalSymmetry();
+            final BitBoard canonical = new BitBoard(size[0], size[1], 3);
+
+            for (int i = 0; i < board.moveCount(); ++i)
+                canonical.play(board.zobrist().map(board.move(i), symmetry));
+
+            assertEquals(board.canonicalHash(), canonical.hash());
+        }
+    }
+
+    @Test
+    void undoRestoresHashes() {
+        final BitBoard board = new BitBoard(4, 4, 4);
+        final long empty = board.hash();
+
+        board.play(5);
+        final long afterFirst = board.hash();
+        final long canonicalAfterFirst = board.canonicalHash();
+
+        board.play(10);
+        assertNotEquals(afterFirst, board.hash());
+
+        board.undo();
+        assertEquals(afterFirst, board.hash());
+        assertEquals(canonicalAfterFirst, board.canonicalHash());
+
+        board.undo();
+        assertEquals(empty, board.hash());
+    }
+
+    private static BitBoard randomPosition(final BitBoard board, final Random random) {
+        final int moves = Math.min(4, board.cells() - 1);
+
+        while (board.moveCount() < moves) {
+            final int cell = random.nextInt(board.cells());
+
+            if (board.isEmpty(cell) && !board.isWinningMove(cell, board.currentPlayer()))
+                board.play(cell);
+        }
+
+        return board;
+    }
+}